@@ -0,0 +1,102 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of one forked keytool, with different JVM profiles.
+ *
+ * <p>The difference between {@code plain} and the others is the saving
+ * per fork. Run it with {@code mvn verify -Pjmh -Djmh.filter=Fork}.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+public class ForkBenchmark {
+
+    /**
+     * Password of the keystore.
+     */
+    private static final String PWD = "benchmark";
+
+    /**
+     * Profile: plain JVM, tuned options, tuned options with CDS.
+     */
+    @Param({"plain", "tuned", "cds"})
+    private String profile;
+
+    /**
+     * Temporary directory.
+     */
+    private File dir;
+
+    /**
+     * Keytool to run.
+     */
+    private Keytool keytool;
+
+    /**
+     * Prepare keystore and the profile.
+     * @throws IOException If fails
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.dir = Files.createTempDirectory("jmh").toFile();
+        final File file = new File(this.dir, "keystore.jks");
+        new Jca(file, ForkBenchmark.PWD).genkey();
+        final Profile prof;
+        if ("plain".equals(this.profile)) {
+            prof = new Profile();
+        } else if ("tuned".equals(this.profile)) {
+            prof = new Profile(Profile.TUNED, null);
+        } else {
+            prof = new Profile(Profile.TUNED, this.dir);
+        }
+        this.keytool = new Keytool(file, ForkBenchmark.PWD, prof);
+        this.keytool.list();
+    }
+
+    /**
+     * Delete temporary files.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        FileUtils.deleteQuietly(this.dir);
+    }
+
+    /**
+     * List the keystore.
+     * @return Listing
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public String list() throws IOException {
+        return this.keytool.list();
+    }
+}
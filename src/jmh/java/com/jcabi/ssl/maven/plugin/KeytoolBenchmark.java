@@ -0,0 +1,155 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of keystore and truststore operations, forked and in-process.
+ *
+ * <p>Run it with {@code mvn verify -Pjmh}.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+public class KeytoolBenchmark {
+
+    /**
+     * Password of the keystore.
+     */
+    private static final String PWD = "benchmark";
+
+    /**
+     * Fork keytool or do everything in-process?
+     */
+    @Param({"false", "true"})
+    private boolean fork;
+
+    /**
+     * Key algorithm and size, like {@code EC:256}.
+     */
+    @Param({"RSA:2048", "RSA:3072", "EC:256", "EC:384", "Ed25519:0"})
+    private String key;
+
+    /**
+     * Temporary directory.
+     */
+    private File dir;
+
+    /**
+     * Keystore generated before.
+     */
+    private File keystore;
+
+    /**
+     * Truststore converted before.
+     */
+    private File truststore;
+
+    /**
+     * Prepare stores.
+     * @throws IOException If fails
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.dir = Files.createTempDirectory("jmh").toFile();
+        this.keystore = new File(this.dir, "keystore.jks");
+        new Jca(this.keystore, KeytoolBenchmark.PWD).genkey(
+            this.algorithm()
+        );
+        this.truststore = new File(this.dir, "cacerts.jks");
+        Cacerts.convert(Cacerts.jdk(), this.truststore);
+    }
+
+    /**
+     * Delete stores.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        FileUtils.deleteQuietly(this.dir);
+    }
+
+    /**
+     * Generate a key pair into a new keystore.
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public void genkey() throws IOException {
+        final File file = new File(this.dir, "genkey.jks");
+        file.delete();
+        new Keystore(KeytoolBenchmark.PWD, this.fork, this.algorithm())
+            .generate(file);
+    }
+
+    /**
+     * List the keystore.
+     * @return Listing
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public String list() throws IOException {
+        return new Keystore(KeytoolBenchmark.PWD, this.fork).list(
+            this.keystore
+        );
+    }
+
+    /**
+     * Import the keystore into the truststore.
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public void imprt() throws IOException {
+        if (this.fork) {
+            new Keytool(this.truststore, Cacerts.STD_PWD).imprt(
+                this.keystore, KeytoolBenchmark.PWD
+            );
+        } else {
+            new Jca(this.truststore, Cacerts.STD_PWD).imprt(
+                this.keystore, KeytoolBenchmark.PWD
+            );
+        }
+    }
+
+    /**
+     * Convert JDK cacerts into JKS truststore.
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public void cacerts() throws IOException {
+        new Cacerts(new File(this.dir, "copy.jks"), this.fork).copy();
+    }
+
+    /**
+     * Algorithm of the key, from the parameter.
+     * @return The algorithm
+     */
+    private Algorithm algorithm() {
+        final String[] parts = this.key.split(":");
+        return new Algorithm(parts[0], Integer.parseInt(parts[1]), "");
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.aspects.Immutable;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.NamedParameterSpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Key algorithm, key size (or curve) and signature algorithm.
+ *
+ * <p>Supported key algorithms are {@code RSA} (2048 bits by default),
+ * {@code EC} (NIST P-256 curve by default, also 384 and 521)
+ * and {@code Ed25519}.
+ *
+ * @since 1.0
+ */
+@Immutable
+@EqualsAndHashCode(of = { "name", "size", "signature" })
+final class Algorithm {
+
+    /**
+     * RSA.
+     */
+    private static final String RSA = "RSA";
+
+    /**
+     * Elliptic curves.
+     */
+    private static final String EC = "EC";
+
+    /**
+     * Edwards curve.
+     */
+    private static final String ED25519 = "Ed25519";
+
+    /**
+     * Object identifiers of signature algorithms.
+     */
+    private static final Map<String, String> OIDS = Map.of(
+        "SHA256withRSA", "1.2.840.113549.1.1.11",
+        "SHA384withRSA", "1.2.840.113549.1.1.12",
+        "SHA512withRSA", "1.2.840.113549.1.1.13",
+        "SHA256withECDSA", "1.2.840.10045.4.3.2",
+        "SHA384withECDSA", "1.2.840.10045.4.3.3",
+        "SHA512withECDSA", "1.2.840.10045.4.3.4",
+        Algorithm.ED25519, "1.3.101.112"
+    );
+
+    /**
+     * Key algorithm.
+     */
+    private final transient String name;
+
+    /**
+     * Key size, in bits.
+     */
+    private final transient int size;
+
+    /**
+     * Signature algorithm.
+     */
+    private final transient String signature;
+
+    /**
+     * Ctor, RSA-2048 with SHA256withRSA, as keytool did before.
+     */
+    Algorithm() {
+        this(Algorithm.RSA, 0, "");
+    }
+
+    /**
+     * Ctor.
+     * @param alg Key algorithm: RSA, EC or Ed25519, or NULL for RSA
+     * @param bits Key size in bits, or zero for default
+     * @param sig Signature algorithm, or NULL or empty for default
+     */
+    Algorithm(final String alg, final int bits, final String sig) {
+        this.name = Algorithm.canonical(alg);
+        this.size = Algorithm.size(this.name, bits);
+        this.signature = Algorithm.signature(this.name, this.size, sig);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%s-%d/%s", this.name, this.size, this.signature
+        );
+    }
+
+    /**
+     * Generate a new key pair.
+     * @param random Source of randomness
+     * @return The key pair
+     * @throws GeneralSecurityException If fails
+     */
+    KeyPair generate(final SecureRandom random)
+        throws GeneralSecurityException {
+        final KeyPairGenerator gen = KeyPairGenerator.getInstance(this.name);
+        if (Algorithm.RSA.equals(this.name)) {
+            gen.initialize(this.size, random);
+        } else if (Algorithm.EC.equals(this.name)) {
+            gen.initialize(new ECGenParameterSpec(this.curve()), random);
+        } else {
+            gen.initialize(NamedParameterSpec.ED25519, random);
+        }
+        return gen.generateKeyPair();
+    }
+
+    /**
+     * Is key generation CPU-heavy, so that it needs C2 JIT compiler?
+     * Looking for RSA primes takes long, while EC keys are cheap.
+     * @return TRUE if it's heavy
+     */
+    boolean heavy() {
+        return Algorithm.RSA.equals(this.name);
+    }
+
+    /**
+     * Name of the signature algorithm, for {@link java.security.Signature}.
+     * @return The name
+     */
+    String signature() {
+        return this.signature;
+    }
+
+    /**
+     * DER-encoded AlgorithmIdentifier of the signature algorithm.
+     * @return DER bytes
+     */
+    byte[] identifier() {
+        final byte[] oid = Der.oid(Algorithm.OIDS.get(this.signature));
+        final byte[] der;
+        if (Algorithm.RSA.equals(this.name)) {
+            der = Der.sequence(oid, Der.nul());
+        } else {
+            der = Der.sequence(oid);
+        }
+        return der;
+    }
+
+    /**
+     * Command line arguments of keytool.
+     * @return Arguments
+     */
+    Collection<String> arguments() {
+        final List<String> args = new ArrayList<>(6);
+        args.addAll(Arrays.asList("-keyalg", this.name));
+        if (Algorithm.RSA.equals(this.name)) {
+            args.add("-keysize");
+            args.add(Integer.toString(this.size));
+        } else if (Algorithm.EC.equals(this.name)) {
+            args.add("-groupname");
+            args.add(this.curve());
+        }
+        args.addAll(Arrays.asList("-sigalg", this.signature));
+        return args;
+    }
+
+    /**
+     * Name of the NIST curve of EC keys.
+     * @return The name, like {@code secp256r1}
+     */
+    private String curve() {
+        return String.format("secp%dr1", this.size);
+    }
+
+    /**
+     * Canonical name of the key algorithm.
+     * @param alg Name as configured
+     * @return Canonical name
+     */
+    private static String canonical(final String alg) {
+        final String name;
+        if (alg == null || Algorithm.RSA.equalsIgnoreCase(alg)) {
+            name = Algorithm.RSA;
+        } else if (Algorithm.EC.equalsIgnoreCase(alg)
+            || "ECDSA".equalsIgnoreCase(alg)) {
+            name = Algorithm.EC;
+        } else if (Algorithm.ED25519.equalsIgnoreCase(alg)
+            || "EdDSA".equalsIgnoreCase(alg)) {
+            name = Algorithm.ED25519;
+        } else {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Key algorithm '%s' is not supported, use RSA, EC or %s",
+                    alg, Algorithm.ED25519
+                )
+            );
+        }
+        return name;
+    }
+
+    /**
+     * Key size, taking defaults into account.
+     * @param alg Canonical key algorithm
+     * @param bits Size, as configured, or zero
+     * @return Key size
+     */
+    private static int size(final String alg, final int bits) {
+        final int size;
+        if (Algorithm.ED25519.equals(alg)) {
+            size = 255;
+        } else if (bits > 0) {
+            size = bits;
+        } else if (Algorithm.EC.equals(alg)) {
+            size = 256;
+        } else {
+            size = 2048;
+        }
+        if (Algorithm.EC.equals(alg) && size != 256 && size != 384
+            && size != 521) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "EC key size %d is not supported, use 256, 384 or 521",
+                    size
+                )
+            );
+        }
+        return size;
+    }
+
+    /**
+     * Signature algorithm, taking defaults into account.
+     * @param alg Canonical key algorithm
+     * @param bits Key size
+     * @param sig Signature algorithm, as configured, or empty
+     * @return Signature algorithm
+     */
+    private static String signature(final String alg, final int bits,
+        final String sig) {
+        final String name;
+        if (Algorithm.ED25519.equals(alg)) {
+            name = Algorithm.ED25519;
+        } else if (sig != null && !sig.isEmpty()) {
+            name = sig;
+        } else if (Algorithm.EC.equals(alg)) {
+            name = String.format("SHA%dwithECDSA", Math.min(bits, 512));
+        } else {
+            name = "SHA256withRSA";
+        }
+        if (!Algorithm.OIDS.containsKey(name)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Signature algorithm '%s' is not supported, use one of %s",
+                    name, Algorithm.OIDS.keySet()
+                )
+            );
+        }
+        final String suffix;
+        if (Algorithm.EC.equals(alg)) {
+            suffix = "WITHECDSA";
+        } else if (Algorithm.RSA.equals(alg)) {
+            suffix = "WITHRSA";
+        } else {
+            suffix = Algorithm.ED25519.toUpperCase(Locale.ENGLISH);
+        }
+        if (!name.toUpperCase(Locale.ENGLISH).endsWith(suffix)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Signature algorithm '%s' can't be used with %s keys",
+                    name, alg
+                )
+            );
+        }
+        return name;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.aspects.Immutable;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Options of forked test JVMs, with locations and passwords of the stores,
+ * merged into the property that Surefire and Failsafe read as their
+ * {@code argLine}.
+ *
+ * <p>Options that are already there are kept, except the
+ * {@code -Djavax.net.ssl.*} ones this class sets itself, which are
+ * replaced, so that the merge may be done again, by another execution,
+ * without duplicates. Other {@code -Djavax.net.ssl.*} options, like
+ * {@code trustStoreType} set by the user, stay. The forked
+ * JVM then makes its default {@code SSLContext} of these stores, once,
+ * and all tests use it. Optionally, the size of the cache of TLS sessions
+ * is set too, through {@code javax.net.ssl.sessionCacheSize}.
+ *
+ * @since 1.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = { "name", "sessions" })
+final class ArgLine {
+
+    /**
+     * Prefix of properties to set.
+     */
+    private static final String PREFIX = "javax.net.ssl.";
+
+    /**
+     * Options, maybe quoted.
+     */
+    private static final Pattern OPTION = Pattern.compile("\"[^\"]*\"|\\S+");
+
+    /**
+     * Name of the property.
+     */
+    private final transient String name;
+
+    /**
+     * Size of the session cache, or zero to keep the default one.
+     */
+    private final transient int sessions;
+
+    /**
+     * Ctor.
+     * @param prop Name of the property, like {@code argLine}
+     * @param size Size of the session cache, or zero to keep the default one
+     */
+    ArgLine(final String prop, final int size) {
+        this.name = prop;
+        this.sessions = size;
+    }
+
+    /**
+     * Merge options into the property.
+     * @param target Properties of the project, where the property is
+     * @param props Properties with {@code javax.net.ssl.*} settings
+     * @return New value of the property
+     */
+    String inject(final Properties target, final Properties props) {
+        final Map<String, String> own = new TreeMap<>();
+        for (final String prop : props.stringPropertyNames()) {
+            if (prop.startsWith(ArgLine.PREFIX)) {
+                own.put(prop, props.getProperty(prop));
+            }
+        }
+        if (this.sessions > 0) {
+            own.put(
+                "javax.net.ssl.sessionCacheSize",
+                Integer.toString(this.sessions)
+            );
+        }
+        final List<String> opts = new LinkedList<>();
+        final Matcher matcher = ArgLine.OPTION.matcher(
+            target.getProperty(this.name, "")
+        );
+        while (matcher.find()) {
+            final String opt = matcher.group();
+            if (!own.containsKey(ArgLine.property(opt))) {
+                opts.add(opt);
+            }
+        }
+        for (final Map.Entry<String, String> ent : own.entrySet()) {
+            opts.add(ArgLine.option(ent.getKey(), ent.getValue()));
+        }
+        final String line = String.join(" ", opts);
+        target.put(this.name, line);
+        return line;
+    }
+
+    /**
+     * Name of the system property an option sets.
+     * @param opt Option, maybe quoted, like {@code -Dfoo=bar}
+     * @return Name of the property, or empty if it's not a {@code -D} one
+     */
+    private static String property(final String opt) {
+        final String plain = opt.replace("\"", "");
+        final String prop;
+        if (plain.startsWith("-D")) {
+            final int eq = plain.indexOf('=');
+            if (eq < 0) {
+                prop = plain.substring(2);
+            } else {
+                prop = plain.substring(2, eq);
+            }
+        } else {
+            prop = "";
+        }
+        return prop;
+    }
+
+    /**
+     * Make an option of a system property.
+     * @param prop Name of the property
+     * @param value Value of it
+     * @return Option, quoted if it has spaces
+     */
+    private static String option(final String prop, final String value) {
+        final String opt = String.format("-D%s=%s", prop, value);
+        final String quoted;
+        if (opt.contains(" ")) {
+            quoted = String.format("\"%s\"", opt);
+        } else {
+            quoted = opt;
+        }
+        return quoted;
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.CertificateException;
+import java.security.cert.X509Certificate;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Local certificate authority, which lives longer than one build and
+ * signs certificates of keystores of all modules.
+ *
+ * <p>Its key is generated once and kept in a keystore, by default in the
+ * machine-wide cache directory. Truststores of all modules then contain
+ * the same certificate of the authority, instead of the certificate of
+ * their own key, and are identical. The keystore of the authority is
+ * created in a temporary file and then linked to its place, which fails
+ * if another build has just created it; in that case the other one is
+ * used.
+ *
+ * @since 1.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = { "path", "algorithm", "entropy" })
+final class Authority {
+
+    /**
+     * Alias of the authority, in keystores and truststores.
+     */
+    static final String ALIAS = "jcabi-ssl-ca";
+
+    /**
+     * Validity of the certificate of the authority, in days.
+     */
+    private static final long VALIDITY = 3650L;
+
+    /**
+     * For how many days it must stay valid, to sign another certificate.
+     */
+    private static final long MARGIN = 100L;
+
+    /**
+     * Location of the keystore of the authority.
+     */
+    private final transient String path;
+
+    /**
+     * Password of the keystore and the key.
+     */
+    private final transient String password;
+
+    /**
+     * Algorithm of the key.
+     */
+    private final transient Algorithm algorithm;
+
+    /**
+     * Source of randomness.
+     */
+    private final transient Entropy entropy;
+
+    /**
+     * Ctor.
+     * @param file Location of the keystore of the authority
+     * @param pwd Password of the keystore and the key
+     * @param alg Algorithm of the key
+     * @param rnd Source of randomness
+     */
+    Authority(final File file, final String pwd, final Algorithm alg,
+        final Entropy rnd) {
+        this.path = file.getAbsolutePath();
+        this.password = pwd;
+        this.algorithm = alg;
+        this.entropy = rnd;
+    }
+
+    /**
+     * Key and certificate of the authority, created if they don't exist
+     * yet or expire soon.
+     * @return The entry
+     * @throws IOException If fails
+     */
+    KeyStore.PrivateKeyEntry entry() throws IOException {
+        final File file = new File(this.path);
+        KeyStore.PrivateKeyEntry entry = null;
+        if (file.exists()) {
+            entry = this.load();
+            if (!this.fresh(entry)) {
+                Logger.info(
+                    this, "Certificate authority in '%s' expires soon",
+                    this.path
+                );
+                Files.deleteIfExists(file.toPath());
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            this.create();
+            entry = this.load();
+        }
+        return entry;
+    }
+
+    /**
+     * Certificate of the authority.
+     * @return The certificate
+     * @throws IOException If fails
+     */
+    X509Certificate certificate() throws IOException {
+        return (X509Certificate) this.entry().getCertificate();
+    }
+
+    /**
+     * Generate the key of the authority and put it to its place, unless
+     * somebody else has just done it.
+     * @throws IOException If fails
+     */
+    private void create() throws IOException {
+        final File file = new File(this.path);
+        final File temp = new File(
+            String.format("%s.%s.tmp", this.path, UUID.randomUUID())
+        );
+        final long from;
+        final long days;
+        if (this.entropy.deterministic()) {
+            from = Jks.EPOCH;
+            days = Jca.CENTURY;
+        } else {
+            from = 0L;
+            days = Authority.VALIDITY;
+        }
+        final KeyStore store;
+        try {
+            store = KeyStore.getInstance("jks");
+            store.load(null, null);
+            store.setEntry(
+                Authority.ALIAS,
+                Jca.entry(
+                    new X509(
+                        Jca.dname("jcabi-ssl local authority"),
+                        days, this.algorithm, from
+                    ).authority(),
+                    this.algorithm,
+                    this.entropy.derived(Authority.ALIAS).random()
+                ),
+                new KeyStore.PasswordProtection(this.password.toCharArray())
+            );
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+        Jca.save(store, temp, this.password);
+        try {
+            Files.createLink(file.toPath(), temp.toPath());
+            Logger.info(
+                this, "Certificate authority created in '%s'", this.path
+            );
+        } catch (final FileAlreadyExistsException ex) {
+            Logger.debug(
+                this, "Certificate authority was just created in '%s'",
+                this.path
+            );
+        } catch (final UnsupportedOperationException ex) {
+            Files.move(temp.toPath(), file.toPath());
+        } finally {
+            Files.deleteIfExists(temp.toPath());
+        }
+    }
+
+    /**
+     * Load the key of the authority.
+     * @return The entry
+     * @throws IOException If fails
+     */
+    private KeyStore.PrivateKeyEntry load() throws IOException {
+        try {
+            return (KeyStore.PrivateKeyEntry) Jca.load(
+                new File(this.path), this.password
+            ).getEntry(
+                Authority.ALIAS,
+                new KeyStore.PasswordProtection(this.password.toCharArray())
+            );
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Will the authority stay valid long enough?
+     * @param entry Its key and certificate
+     * @return TRUE if it's still good for signing
+     */
+    private boolean fresh(final KeyStore.PrivateKeyEntry entry) {
+        boolean fresh = entry != null;
+        if (fresh) {
+            try {
+                ((X509Certificate) entry.getCertificate()).checkValidity(
+                    new Date(
+                        System.currentTimeMillis()
+                            + TimeUnit.DAYS.toMillis(Authority.MARGIN)
+                    )
+                );
+            } catch (final CertificateException ex) {
+                fresh = false;
+            }
+        }
+        return fresh;
+    }
+}
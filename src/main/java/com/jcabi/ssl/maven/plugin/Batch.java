@@ -0,0 +1,290 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.ToString;
+
+/**
+ * Certificates of many hosts, generated in parallel, on as many threads
+ * as there are cores.
+ *
+ * <p>Keys are generated inside Maven JVM, even if keytool is forked for
+ * the main key, because a fork per host would take much longer than the
+ * generation itself. Each keystore and the truststore are written once,
+ * when all keys are ready.
+ *
+ * @since 1.0
+ */
+@ToString
+final class Batch {
+
+    /**
+     * Hosts.
+     */
+    private final transient Collection<Host> hosts;
+
+    /**
+     * Algorithm of keys.
+     */
+    private final transient Algorithm algorithm;
+
+    /**
+     * Source of randomness.
+     */
+    private final transient Entropy entropy;
+
+    /**
+     * Password of keystores and keys.
+     */
+    private final transient String password;
+
+    /**
+     * Local certificate authority, which signs the keys, or NULL if
+     * they are self-signed.
+     */
+    private final transient Authority issuer;
+
+    /**
+     * Ctor.
+     * @param all Hosts, with unique aliases
+     * @param alg Algorithm of keys
+     * @param rnd Source of randomness
+     * @param pwd Password of keystores and keys
+     * @param auth Local certificate authority, or NULL
+     */
+    Batch(final Collection<Host> all, final Algorithm alg, final Entropy rnd,
+        final String pwd, final Authority auth) {
+        this.hosts = Batch.unique(all);
+        this.algorithm = alg;
+        this.entropy = rnd;
+        this.password = pwd;
+        this.issuer = auth;
+    }
+
+    /**
+     * Generate keys of all hosts, save them to their keystores and
+     * import their certificates into the truststore, unless they are
+     * signed by the authority, which is trusted already.
+     * @param keystore The main keystore, which must exist
+     * @param truststore The truststore, which must exist
+     * @throws IOException If fails
+     */
+    void generate(final File keystore, final Cacerts truststore)
+        throws IOException {
+        final ConcurrentMap<String, KeyStore.PrivateKeyEntry> keys =
+            new ConcurrentHashMap<>(this.hosts.size());
+        final Collection<Parallel.Step> steps = new ArrayList<>(
+            this.hosts.size()
+        );
+        final KeyStore.PrivateKeyEntry ca;
+        if (this.issuer == null) {
+            ca = null;
+        } else {
+            ca = this.issuer.entry();
+        }
+        for (final Host host : this.hosts) {
+            final String alias = host.alias();
+            steps.add(() -> keys.put(alias, this.entry(host, ca)));
+        }
+        new Parallel(Runtime.getRuntime().availableProcessors(), steps).run();
+        final Map<File, Collection<Host>> files = this.files(keystore);
+        try {
+            for (final Map.Entry<File, Collection<Host>> ent
+                : files.entrySet()) {
+                final KeyStore store;
+                if (ent.getKey().equals(keystore)) {
+                    store = Jca.load(keystore, this.password);
+                } else {
+                    store = KeyStore.getInstance("jks");
+                    store.load(null, null);
+                }
+                for (final Host host : ent.getValue()) {
+                    store.setEntry(
+                        host.alias(),
+                        keys.get(host.alias()),
+                        new KeyStore.PasswordProtection(
+                            this.password.toCharArray()
+                        )
+                    );
+                }
+                Jca.save(store, ent.getKey(), this.password);
+            }
+            if (ca == null) {
+                final KeyStore trust = Jca.load(
+                    truststore.file(), Cacerts.STD_PWD
+                );
+                for (final Map.Entry<String, KeyStore.PrivateKeyEntry> key
+                    : keys.entrySet()) {
+                    trust.setCertificateEntry(
+                        key.getKey(), key.getValue().getCertificate()
+                    );
+                }
+                Jca.save(trust, truststore.file(), Cacerts.STD_PWD);
+            }
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+        if (this.entropy.deterministic()) {
+            for (final File file : files.keySet()) {
+                new Jks(file, this.password).normalize();
+            }
+            new Jks(truststore.file(), Cacerts.STD_PWD).normalize();
+        }
+        Logger.info(
+            this,
+            "%d host certificate(s) saved to %d keystore(s) and '%s'",
+            keys.size(), files.size(), truststore.file()
+        );
+    }
+
+    /**
+     * Are keys of all hosts in their keystores?
+     * @param keystore The main keystore
+     * @return TRUE if they are
+     */
+    boolean valid(final File keystore) {
+        boolean valid = true;
+        for (final Map.Entry<File, Collection<Host>> ent
+            : this.files(keystore).entrySet()) {
+            try {
+                final KeyStore store = Jca.load(ent.getKey(), this.password);
+                for (final Host host : ent.getValue()) {
+                    valid &= store.isKeyEntry(host.alias());
+                }
+            } catch (final IOException | GeneralSecurityException ex) {
+                valid = false;
+            }
+            if (!valid) {
+                break;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Fingerprint of what is generated: aliases and names of hosts, and
+     * whether they have their own keystores, but not their locations.
+     * @return The fingerprint
+     */
+    Fingerprint fingerprint() {
+        final List<String> parts = new ArrayList<>(this.hosts.size());
+        for (final Host host : this.hosts) {
+            parts.add(
+                String.format(
+                    "%s %s %b", host.alias(), host.names(), host.separate()
+                )
+            );
+        }
+        return new Fingerprint(parts.toArray(new String[0]));
+    }
+
+    /**
+     * Populate given properties with locations of separate keystores,
+     * as {@code jcabi.ssl.<alias>.keyStore}.
+     * @param props Properties to populate
+     * @param keystore The main keystore
+     */
+    void populate(final Properties props, final File keystore) {
+        for (final Host host : this.hosts) {
+            final File file = host.keystore(keystore);
+            if (!file.equals(keystore)) {
+                props.put(
+                    String.format("jcabi.ssl.%s.keyStore", host.alias()),
+                    file.getAbsolutePath()
+                );
+            }
+        }
+    }
+
+    /**
+     * Make sure aliases of hosts are unique.
+     * @param all Hosts
+     * @return The same hosts
+     */
+    private static Collection<Host> unique(final Collection<Host> all) {
+        final Set<String> seen = new HashSet<>(all.size());
+        for (final Host host : all) {
+            if (!seen.add(host.alias())) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Alias '%s' is configured for more than one host",
+                        host.alias()
+                    )
+                );
+            }
+        }
+        return all;
+    }
+
+    /**
+     * Hosts, grouped by their keystores.
+     * @param keystore The main keystore
+     * @return Map of keystores to hosts
+     */
+    private Map<File, Collection<Host>> files(final File keystore) {
+        final Map<File, Collection<Host>> files = new TreeMap<>();
+        for (final Host host : this.hosts) {
+            files.computeIfAbsent(
+                host.keystore(keystore), file -> new LinkedList<>()
+            ).add(host);
+        }
+        return files;
+    }
+
+    /**
+     * Generate key of the host.
+     * @param host The host
+     * @param ca Key and certificate of the authority, or NULL
+     * @return Key with its certificates
+     * @throws IOException If fails
+     */
+    private KeyStore.PrivateKeyEntry entry(final Host host,
+        final KeyStore.PrivateKeyEntry ca) throws IOException {
+        final KeyStore.PrivateKeyEntry entry;
+        final SecureRandom random = this.entropy.derived(host.alias())
+            .random();
+        if (ca == null) {
+            entry = Jca.entry(this.template(host), this.algorithm, random);
+        } else {
+            entry = Jca.entry(
+                this.template(host), this.algorithm, random, ca
+            );
+        }
+        return entry;
+    }
+
+    /**
+     * Certificate of the host.
+     * @param host The host
+     * @return Certificate to sign
+     */
+    private X509 template(final Host host) {
+        final long from;
+        if (this.entropy.deterministic()) {
+            from = Jks.EPOCH;
+        } else {
+            from = 0L;
+        }
+        return Jca.template(host.alias(), this.algorithm, from)
+            .with(host.names());
+    }
+}
@@ -0,0 +1,335 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetAddress;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+import lombok.ToString;
+
+/**
+ * Benchmark of TLS handshakes and bulk transfer over loopback, between
+ * a client and {@link Server} in echo mode, with the same SSL context.
+ *
+ * <p>Every configuration is warmed up first, by a fifth of the
+ * handshakes. Without resumption the session is invalidated after each
+ * handshake, so the next one is full. Allocations are counted in all
+ * threads of the JVM, including the thread of the server, and are
+ * not available on JVMs without {@code com.sun.management}.
+ *
+ * @since 1.0
+ */
+@ToString(of = { "label", "count", "bulk" })
+final class Bench {
+
+    /**
+     * Size of a chunk in bulk transfer.
+     */
+    private static final int CHUNK = 16_384;
+
+    /**
+     * Name of the key material.
+     */
+    private final transient String label;
+
+    /**
+     * SSL context of both sides.
+     */
+    private final transient SSLContext context;
+
+    /**
+     * Handshakes to measure.
+     */
+    private final transient int count;
+
+    /**
+     * Bytes to send and get back in bulk transfer.
+     */
+    private final transient long bulk;
+
+    /**
+     * Ctor.
+     * @param name Name of the key material
+     * @param ctx SSL context of both sides
+     * @param total Handshakes to measure
+     * @param bytes Bytes to send and get back in bulk transfer
+     */
+    Bench(final String name, final SSLContext ctx, final int total,
+        final long bytes) {
+        this.label = name;
+        this.context = ctx;
+        this.count = total;
+        this.bulk = bytes;
+    }
+
+    /**
+     * Run it.
+     * @param protocol Protocol, like {@code TLSv1.3}
+     * @param resume Shall sessions be resumed?
+     * @return Result
+     * @throws IOException If fails
+     */
+    Bench.Result run(final String protocol, final boolean resume)
+        throws IOException {
+        try (Server server = new Server(this.context, Server.ECHO, "", 0)) {
+            final int port = server.start(0);
+            this.handshakes(port, protocol, resume, this.count / 5 + 1);
+            final long before = Bench.allocated();
+            final long[] times = this.handshakes(
+                port, protocol, resume, this.count
+            );
+            final long after = Bench.allocated();
+            final long rate = times.length * TimeUnit.SECONDS.toNanos(1L)
+                / Math.max(1L, Arrays.stream(times).sum());
+            Arrays.sort(times);
+            final long median = Bench.micros(times, 50);
+            final long high = Bench.micros(times, 90);
+            final long tail = Bench.micros(times, 99);
+            final long alloc = Bench.per(before, after, times.length);
+            final long mbps;
+            if (this.bulk > 0L) {
+                mbps = this.bulk * TimeUnit.SECONDS.toNanos(1L)
+                    / Math.max(1L, this.transfer(port, protocol))
+                    / (1L << 20);
+            } else {
+                mbps = 0L;
+            }
+            return new Bench.Result(
+                String.format(
+                    Locale.ENGLISH,
+                    String.join(
+                        "",
+                        "{\"key\":\"%s\",\"protocol\":\"%s\",",
+                        "\"resume\":%b,\"handshakes\":%d,\"perSecond\":%d,",
+                        "\"p50\":%d,\"p90\":%d,\"p99\":%d,",
+                        "\"mibPerSecond\":%d,\"bytesPerHandshake\":%d}"
+                    ),
+                    this.label, protocol, resume, times.length, rate,
+                    median, high, tail, mbps, alloc
+                ),
+                String.format(
+                    Locale.ENGLISH,
+                    String.join(
+                        " ",
+                        "%s %s, resumption %s: %d handshakes/s,",
+                        "p50 %dus, p90 %dus, p99 %dus, %d MiB/s,",
+                        "%d bytes allocated per handshake"
+                    ),
+                    this.label, protocol, Bench.onoff(resume), rate,
+                    median, high, tail, mbps, alloc
+                )
+            );
+        }
+    }
+
+    /**
+     * Make handshakes, one by one, and measure each one.
+     * @param port Port of the server
+     * @param protocol Protocol
+     * @param resume Shall sessions be resumed?
+     * @param total How many
+     * @return Time of each, in nanoseconds
+     * @throws IOException If fails
+     */
+    private long[] handshakes(final int port, final String protocol,
+        final boolean resume, final int total) throws IOException {
+        final long[] times = new long[total];
+        for (int idx = 0; idx < total; ++idx) {
+            final long start = System.nanoTime();
+            try (SSLSocket sock = this.connect(port, protocol)) {
+                sock.startHandshake();
+                sock.getOutputStream().write(1);
+                sock.getInputStream().read();
+                if (!resume) {
+                    sock.getSession().invalidate();
+                }
+            }
+            times[idx] = System.nanoTime() - start;
+        }
+        return times;
+    }
+
+    /**
+     * Send bytes and get them back.
+     * @param port Port of the server
+     * @param protocol Protocol
+     * @return Time, in nanoseconds
+     * @throws IOException If fails
+     */
+    private long transfer(final int port, final String protocol)
+        throws IOException {
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try (SSLSocket sock = this.connect(port, protocol)) {
+            sock.startHandshake();
+            final long start = System.nanoTime();
+            final Future<?> sent = exec.submit(
+                () -> {
+                    final OutputStream output = sock.getOutputStream();
+                    final byte[] chunk = new byte[Bench.CHUNK];
+                    for (long left = this.bulk; left > 0L;
+                        left -= chunk.length) {
+                        output.write(
+                            chunk, 0, (int) Math.min(left, chunk.length)
+                        );
+                    }
+                    output.flush();
+                    return null;
+                }
+            );
+            final InputStream input = sock.getInputStream();
+            final byte[] buf = new byte[Bench.CHUNK];
+            long left = this.bulk;
+            while (left > 0L) {
+                final int read = input.read(buf);
+                if (read < 0) {
+                    throw new IOException("Connection closed too early");
+                }
+                left -= read;
+            }
+            sent.get();
+            return System.nanoTime() - start;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException(ex);
+        } catch (final ExecutionException ex) {
+            throw new IOException(ex.getCause());
+        } finally {
+            exec.shutdownNow();
+        }
+    }
+
+    /**
+     * Connect to the server.
+     * @param port Port of the server
+     * @param protocol Protocol
+     * @return Socket
+     * @throws IOException If fails
+     */
+    private SSLSocket connect(final int port, final String protocol)
+        throws IOException {
+        final SSLSocket sock = (SSLSocket) this.context.getSocketFactory()
+            .createSocket(
+                InetAddress.getLoopbackAddress().getHostAddress(), port
+            );
+        sock.setTcpNoDelay(true);
+        sock.setEnabledProtocols(new String[] {protocol});
+        return sock;
+    }
+
+    /**
+     * Percentile, in microseconds.
+     * @param sorted Times, in nanoseconds, sorted
+     * @param pct Percentile
+     * @return Microseconds
+     */
+    private static long micros(final long[] sorted, final int pct) {
+        return TimeUnit.NANOSECONDS.toMicros(
+            sorted[Math.min(sorted.length - 1, sorted.length * pct / 100)]
+        );
+    }
+
+    /**
+     * Bytes allocated per handshake.
+     * @param before Bytes allocated before, or -1
+     * @param after Bytes allocated after, or -1
+     * @param total Handshakes
+     * @return Bytes, or -1 if unknown
+     */
+    private static long per(final long before, final long after,
+        final int total) {
+        final long bytes;
+        if (before < 0L || after < 0L) {
+            bytes = -1L;
+        } else {
+            bytes = (after - before) / total;
+        }
+        return bytes;
+    }
+
+    /**
+     * Bytes allocated by all live threads.
+     * @return Bytes, or -1 if the JVM can't tell
+     */
+    private static long allocated() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        long total = -1L;
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            total = 0L;
+            for (final long bytes : ((com.sun.management.ThreadMXBean) bean)
+                .getThreadAllocatedBytes(bean.getAllThreadIds())) {
+                if (bytes > 0L) {
+                    total += bytes;
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Print a flag.
+     * @param flag The flag
+     * @return Text
+     */
+    private static String onoff(final boolean flag) {
+        final String text;
+        if (flag) {
+            text = "on";
+        } else {
+            text = "off";
+        }
+        return text;
+    }
+
+    /**
+     * Result of one configuration.
+     * @since 1.0
+     */
+    static final class Result {
+        /**
+         * JSON object.
+         */
+        private final String json;
+
+        /**
+         * Summary.
+         */
+        private final String text;
+
+        /**
+         * Ctor.
+         * @param obj JSON object
+         * @param line Summary
+         */
+        Result(final String obj, final String line) {
+            this.json = obj;
+            this.text = line;
+        }
+
+        /**
+         * Print it as JSON.
+         * @return JSON object
+         */
+        String json() {
+            return this.json;
+        }
+
+        @Override
+        public String toString() {
+            return this.text;
+        }
+    }
+}
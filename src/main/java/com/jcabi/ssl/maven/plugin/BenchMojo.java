@@ -0,0 +1,238 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import javax.net.ssl.SSLContext;
+import org.apache.commons.io.FileUtils;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.slf4j.impl.StaticLoggerBinder;
+
+/**
+ * Measure TLS handshakes and bulk transfer over loopback, with the
+ * keystore and the truststore made by {@code keygen}, and with keys of
+ * other algorithms, generated in memory, to compare.
+ * @since 1.0
+ */
+@Mojo(name = "bench", threadSafe = true)
+public final class BenchMojo extends AbstractMojo {
+
+    /**
+     * Maven project.
+     */
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private transient MavenProject project;
+
+    /**
+     * Shall we skip execution?
+     */
+    @Parameter
+    private transient boolean skip;
+
+    /**
+     * Other key algorithms to compare with, like {@code RSA},
+     * {@code RSA:3072}, {@code EC:384} or {@code Ed25519}.
+     */
+    @Parameter
+    private transient List<String> algorithms;
+
+    /**
+     * Protocols to measure.
+     */
+    @Parameter
+    private transient List<String> protocols;
+
+    /**
+     * Handshakes to measure in each configuration.
+     */
+    @Parameter(defaultValue = "200")
+    private transient int handshakes;
+
+    /**
+     * Bytes to send and get back in each configuration, zero to skip
+     * bulk transfer.
+     */
+    @Parameter(defaultValue = "16777216")
+    private transient long bulk;
+
+    /**
+     * Where to save the JSON report.
+     */
+    @Parameter(
+        defaultValue = "${project.build.directory}/jcabi-ssl-bench.json"
+    )
+    private transient File report;
+
+    /**
+     * Creates BenchMojo.
+     */
+    public BenchMojo() {
+        this(null);
+    }
+
+    /**
+     * Creates BenchMojo with default configuration.
+     * @param prj Maven project
+     */
+    public BenchMojo(final MavenProject prj) {
+        super();
+        this.project = prj;
+        this.handshakes = 200;
+        this.bulk = 16_777_216L;
+    }
+
+    /**
+     * Set skip option.
+     * @param skp Shall we skip execution?
+     */
+    public void setSkip(final boolean skp) {
+        this.skip = skp;
+    }
+
+    /**
+     * Set other key algorithms to compare with.
+     * @param algs Algorithms, like {@code RSA:3072} or {@code Ed25519}
+     */
+    public void setAlgorithms(final List<String> algs) {
+        this.algorithms = algs;
+    }
+
+    @Override
+    public void execute() throws MojoFailureException {
+        StaticLoggerBinder.getSingleton().setMavenLog(this.getLog());
+        if (this.skip) {
+            Logger.info(this, "execution skipped because of 'skip' option");
+            return;
+        }
+        try {
+            final List<String> results = new LinkedList<>();
+            for (final Map.Entry<String, SSLContext> ent
+                : this.contexts().entrySet()) {
+                final Bench bench = new Bench(
+                    ent.getKey(), ent.getValue(), this.handshakes, this.bulk
+                );
+                for (final String protocol : this.protocols()) {
+                    for (final boolean resume : new boolean[] {false, true}) {
+                        try {
+                            final Bench.Result res = bench.run(
+                                protocol, resume
+                            );
+                            Logger.info(this, "%s", res);
+                            results.add(res.json());
+                        } catch (final IOException ex) {
+                            Logger.warn(
+                                this, "%s %s can't be measured: %s",
+                                ent.getKey(), protocol, ex.getMessage()
+                            );
+                        }
+                    }
+                }
+            }
+            FileUtils.writeStringToFile(
+                this.report,
+                String.format("[%s]%n", String.join(",", results)),
+                StandardCharsets.UTF_8
+            );
+            Logger.info(
+                this, "%d configuration(s) measured, see %s",
+                results.size(), this.report
+            );
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Contexts to measure, by names of their keys.
+     * @return Contexts
+     * @throws IOException If fails
+     * @throws MojoFailureException If there is no keystore to measure
+     */
+    private Map<String, SSLContext> contexts()
+        throws IOException, MojoFailureException {
+        final List<Algorithm> others = this.others();
+        Demand.settle(this.project);
+        final Properties props = this.project.getProperties();
+        if (props.getProperty(Keystore.KEY) == null) {
+            throw new MojoFailureException(
+                String.format(
+                    "Maven property ${%s} is not set, %s",
+                    Keystore.KEY, "run 'keygen' goal before 'bench'"
+                )
+            );
+        }
+        final Map<String, SSLContext> all = new LinkedHashMap<>(0);
+        all.put("keystore", Contexts.context(props));
+        for (final Algorithm alg : others) {
+            all.put(alg.toString(), Contexts.memory(alg));
+        }
+        return all;
+    }
+
+    /**
+     * Other key algorithms to compare with.
+     * @return Algorithms
+     * @throws MojoFailureException If some of them is not valid
+     */
+    private List<Algorithm> others() throws MojoFailureException {
+        final List<String> specs;
+        if (this.algorithms == null) {
+            specs = Collections.emptyList();
+        } else {
+            specs = this.algorithms;
+        }
+        final List<Algorithm> list = new LinkedList<>();
+        for (final String spec : specs) {
+            final String[] parts = spec.trim().split(":", 2);
+            try {
+                final int bits;
+                if (parts.length > 1) {
+                    bits = Integer.parseInt(parts[1].trim());
+                } else {
+                    bits = 0;
+                }
+                list.add(new Algorithm(parts[0], bits, null));
+            } catch (final IllegalArgumentException ex) {
+                throw new MojoFailureException(
+                    String.format(
+                        "Invalid <algorithm>%s</algorithm>, %s, %s",
+                        spec, ex.getMessage(),
+                        "expected like RSA, RSA:3072, EC:384 or Ed25519"
+                    ),
+                    ex
+                );
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Protocols to measure.
+     * @return Protocols
+     */
+    private List<String> protocols() {
+        final List<String> list;
+        if (this.protocols == null || this.protocols.isEmpty()) {
+            list = Arrays.asList("TLSv1.2", "TLSv1.3");
+        } else {
+            list = this.protocols;
+        }
+        return list;
+    }
+}
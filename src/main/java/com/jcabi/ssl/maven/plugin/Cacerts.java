@@ -7,13 +7,19 @@ package com.jcabi.ssl.maven.plugin;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.log.Logger;
-import com.jcabi.log.VerboseProcess;
 import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
-import java.util.logging.Level;
+import java.util.regex.Pattern;
 import javax.validation.constraints.NotNull;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
@@ -21,11 +27,16 @@ import org.apache.commons.io.FileUtils;
 
 /**
  * Abstraction of {@code java.home/lib/security/cacerts} file.
+ *
+ * <p>In minimal mode only the certificates whose aliases match the
+ * allowlist are copied from JDK cacerts, so the truststore is smaller and
+ * is loaded faster by every JVM that uses it.
+ *
  * @since 0.5
  */
 @Immutable
 @ToString
-@EqualsAndHashCode(of = "store")
+@EqualsAndHashCode(of = { "store", "allowed" })
 final class Cacerts {
 
     /**
@@ -48,22 +59,134 @@ final class Cacerts {
      */
     private final transient String store;
 
+    /**
+     * Shall we fork keytool instead of converting in-process?
+     */
+    private final transient boolean fork;
+
+    /**
+     * Regular expression of aliases to copy from JDK cacerts, or NULL
+     * to copy all of them.
+     */
+    private final transient String allowed;
+
+    /**
+     * Profile of forked keytool JVM.
+     */
+    private final transient Profile profile;
+
     /**
      * Ctor.
      * @param file New location
-     * @throws IOException If fails
      */
-    @SuppressWarnings("PMD.ConstructorOnlyInitializesOrCallOtherConstructors")
-    // @checkstyle ConstructorsCodeFreeCheck (18 lines)
-    Cacerts(@NotNull final File file) throws IOException {
+    Cacerts(@NotNull final File file) {
+        this(file, false);
+    }
+
+    /**
+     * Ctor, with all JDK certificates.
+     * @param file New location
+     * @param frk Fork keytool instead of converting in-process
+     */
+    Cacerts(@NotNull final File file, final boolean frk) {
+        this(file, frk, null);
+    }
+
+    /**
+     * Ctor.
+     * @param file New location
+     * @param frk Fork keytool instead of converting in-process
+     * @param allow Regular expression of aliases to copy from JDK cacerts,
+     *  or NULL to copy all of them
+     */
+    Cacerts(@NotNull final File file, final boolean frk, final String allow) {
+        this(file, frk, allow, new Profile());
+    }
+
+    /**
+     * Ctor.
+     * @param file New location
+     * @param frk Fork keytool instead of converting in-process
+     * @param allow Regular expression of aliases to copy from JDK cacerts,
+     *  or NULL to copy all of them
+     * @param prof Profile of forked keytool JVM
+     */
+    private Cacerts(final File file, final boolean frk, final String allow,
+        final Profile prof) {
         this.store = file.getAbsolutePath();
-        final File prev = new File(
-            String.format(
-                "%s/lib/security/cacerts",
-                System.getProperty("java.home")
-            )
-        ).toPath().toRealPath().toFile();
-        Cacerts.convert(prev, file);
+        this.fork = frk;
+        this.allowed = allow;
+        this.profile = prof;
+    }
+
+    /**
+     * The same truststore, with another profile of forked keytool.
+     * @param prof Profile of forked keytool JVM
+     * @return New truststore
+     */
+    Cacerts with(final Profile prof) {
+        return new Cacerts(new File(this.store), this.fork, this.allowed, prof);
+    }
+
+    /**
+     * Minimal truststore, without any of JDK certificates, only with
+     * the ones imported into it later.
+     * @param file New location
+     * @param frk Fork keytool for import instead of doing it in-process
+     * @return The truststore
+     */
+    static Cacerts minimal(final File file, final boolean frk) {
+        return new Cacerts(file, frk, "");
+    }
+
+    /**
+     * Minimal truststore, without most of JDK certificates.
+     * @param file New location
+     * @param frk Fork keytool for import instead of doing it in-process
+     * @param aliases Regular expressions of aliases to copy from
+     *  JDK cacerts, at least one
+     * @return The truststore
+     */
+    static Cacerts minimal(final File file, final boolean frk,
+        final Collection<String> aliases) {
+        if (aliases.isEmpty()) {
+            throw new IllegalArgumentException(
+                "List of aliases to keep in the truststore is empty"
+            );
+        }
+        final StringBuilder regex = new StringBuilder();
+        for (final String alias : aliases) {
+            if (alias == null || alias.trim().isEmpty()) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Alias to keep in the truststore is empty: %s",
+                        aliases
+                    )
+                );
+            }
+            if (regex.length() > 0) {
+                regex.append('|');
+            }
+            regex.append("(?:").append(alias.trim()).append(')');
+        }
+        return new Cacerts(file, frk, regex.toString());
+    }
+
+    /**
+     * Copy JDK cacerts into this trust store.
+     * @throws IOException If fails
+     */
+    @Loggable(Loggable.DEBUG)
+    void copy() throws IOException {
+        final File file = new File(this.store);
+        final File prev = Cacerts.jdk();
+        if (this.allowed != null) {
+            Cacerts.convert(prev, file, Pattern.compile(this.allowed));
+        } else if (this.fork) {
+            Cacerts.forked(prev, file, this.profile);
+        } else {
+            Cacerts.convert(prev, file);
+        }
         file.setWritable(true);
         Logger.info(
             this,
@@ -75,16 +198,59 @@ final class Cacerts {
     }
 
     /**
-     * Import existing keystore content into this trust store.
+     * Bring this trust store, made before, up to date with JDK cacerts,
+     * changing only the entries that differ: anchors that are new or
+     * changed are added, and those that are gone from the JDK are removed.
+     * Local certificates, imported before, are kept. Works in-process,
+     * even in fork mode. If the trust store doesn't exist or can't be
+     * read, it's copied from scratch.
+     * @param keep Aliases of local certificates, to keep
      * @throws IOException If fails
      */
-    void imprt() throws IOException {
-        final File keystore = new File(System.getProperty(Keystore.KEY));
-        new Keytool(new File(this.store), Cacerts.STD_PWD).imprt(
-            keystore, System.getProperty(Keystore.KEY_PWD)
-        );
-        System.setProperty(Cacerts.TRUST, this.store);
-        System.setProperty(Cacerts.TRUST_PWD, Cacerts.STD_PWD);
+    @Loggable(Loggable.DEBUG)
+    void refresh(final Collection<String> keep) throws IOException {
+        final File file = new File(this.store);
+        KeyStore target;
+        try {
+            target = Jca.load(file, Cacerts.STD_PWD);
+        } catch (final IOException ex) {
+            Logger.info(
+                this, "Trust store '%s' can't be refreshed: %s",
+                this.store, ex.getMessage()
+            );
+            target = null;
+        }
+        if (target == null) {
+            this.copy();
+        } else {
+            final Pattern aliases;
+            if (this.allowed == null) {
+                aliases = Pattern.compile(".*");
+            } else {
+                aliases = Pattern.compile(this.allowed);
+            }
+            Cacerts.diff(
+                target, file, Cacerts.trusted(Cacerts.jdk(), aliases), keep
+            );
+        }
+    }
+
+    /**
+     * Import keystore content into this trust store, which must be
+     * copied from JDK cacerts before.
+     * @param keystore The keystore to import
+     * @param pwd Password of the keystore
+     * @throws IOException If fails
+     */
+    void imprt(final File keystore, final String pwd) throws IOException {
+        final File file = new File(this.store);
+        if (this.fork) {
+            new Keytool(file, Cacerts.STD_PWD, this.profile).imprt(
+                keystore, pwd
+            );
+        } else {
+            new Jca(file, Cacerts.STD_PWD).imprt(keystore, pwd);
+        }
         Logger.info(
             this,
             "keyStore '%s' imported into trustStore '%s'",
@@ -93,55 +259,226 @@ final class Cacerts {
         );
     }
 
+    /**
+     * Add a trusted certificate to this trust store, in-process.
+     * @param alias Alias of it
+     * @param cert The certificate
+     * @throws IOException If fails
+     */
+    @Loggable(Loggable.DEBUG)
+    void trust(final String alias, final Certificate cert)
+        throws IOException {
+        final File file = new File(this.store);
+        final KeyStore trust = Jca.load(file, Cacerts.STD_PWD);
+        try {
+            trust.setCertificateEntry(alias, cert);
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+        Jca.save(trust, file, Cacerts.STD_PWD);
+        Logger.info(
+            this, "Certificate '%s' trusted in trustStore '%s'",
+            alias, this.store
+        );
+    }
+
+    /**
+     * Location of this trust store.
+     * @return The file
+     */
+    File file() {
+        return new File(this.store);
+    }
+
+    /**
+     * Which JDK certificates are in this trust store, to be
+     * a part of the cache fingerprint.
+     * @return Text, unique for each set of certificates
+     */
+    String anchors() {
+        final String text;
+        if (this.allowed == null) {
+            text = "all";
+        } else {
+            text = String.format("only:%s", this.allowed);
+        }
+        return text;
+    }
+
+    /**
+     * Activate this trust store in the JVM, which was generated before.
+     */
+    @Loggable(Loggable.DEBUG)
+    void reuse() {
+        System.setProperty(Cacerts.TRUST, this.store);
+        System.setProperty(Cacerts.TRUST_PWD, Cacerts.STD_PWD);
+    }
+
     /**
      * Populate given properties with this truststore's path and password.
      * @param props The properties
      */
     @Loggable(Loggable.DEBUG)
     void populate(final Properties props) {
-        final String[] names = {Cacerts.TRUST, Cacerts.TRUST_PWD};
-        for (final String name : names) {
-            final String value = System.getProperty(name);
-            if (value == null) {
-                continue;
+        props.put(Cacerts.TRUST, this.store);
+        props.put(Cacerts.TRUST_PWD, Cacerts.STD_PWD);
+    }
+
+    /**
+     * Location of {@code cacerts} in the current JDK, with symlinks resolved.
+     * @return The file
+     * @throws IOException If fails
+     */
+    static File jdk() throws IOException {
+        return new File(
+            String.format(
+                "%s/lib/security/cacerts",
+                System.getProperty("java.home")
+            )
+        ).toPath().toRealPath().toFile();
+    }
+
+    /**
+     * Copy all entries of the source trust store into a new JKS file,
+     * inside this JVM.
+     * @param src Source trust store, in any format JDK understands
+     * @param dest Destination JKS file
+     * @throws IOException If fails
+     */
+    static void convert(final File src, final File dest) throws IOException {
+        Cacerts.convert(src, dest, Pattern.compile(".*"));
+    }
+
+    /**
+     * Copy entries of the source trust store, with aliases matching
+     * the pattern, into a new JKS file, inside this JVM.
+     * @param src Source trust store, in any format JDK understands
+     * @param dest Destination JKS file
+     * @param aliases Pattern of aliases to copy
+     * @throws IOException If fails
+     */
+    static void convert(final File src, final File dest,
+        final Pattern aliases) throws IOException {
+        try {
+            final KeyStore target = KeyStore.getInstance("jks");
+            target.load(null, null);
+            for (final Map.Entry<String, Certificate> ent
+                : Cacerts.trusted(src, aliases).entrySet()) {
+                target.setCertificateEntry(ent.getKey(), ent.getValue());
             }
-            props.put(name, value);
-            Logger.info(
-                this,
-                "Maven property ${%s} set to '%s'",
-                name,
-                value
+            Jca.save(target, dest, Cacerts.STD_PWD);
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Apply the difference between the anchors and the trust store.
+     * @param target The trust store, loaded
+     * @param file Where to save it
+     * @param anchors JDK certificates it must trust
+     * @param keep Aliases of local certificates, to keep
+     * @throws IOException If fails
+     */
+    private static void diff(final KeyStore target, final File file,
+        final Map<String, Certificate> anchors, final Collection<String> keep)
+        throws IOException {
+        int added = 0;
+        int removed = 0;
+        try {
+            for (final Map.Entry<String, Certificate> ent
+                : anchors.entrySet()) {
+                if (!ent.getValue().equals(
+                    target.getCertificate(ent.getKey())
+                )) {
+                    target.setCertificateEntry(ent.getKey(), ent.getValue());
+                    ++added;
+                }
+            }
+            for (final String alias : Collections.list(target.aliases())) {
+                if (!anchors.containsKey(alias) && !keep.contains(alias)) {
+                    target.deleteEntry(alias);
+                    ++removed;
+                }
+            }
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+        if (added + removed > 0) {
+            Jca.save(target, file, Cacerts.STD_PWD);
+        }
+        Logger.info(
+            Cacerts.class,
+            "Trust store '%s' refreshed, %d anchor(s) added, %d removed",
+            file, added, removed
+        );
+    }
+
+    /**
+     * Trusted certificates of the source trust store.
+     * @param src Source trust store, in the default format of the JDK
+     * @param aliases Pattern of aliases to take
+     * @return Certificates, by aliases
+     * @throws IOException If fails
+     */
+    private static Map<String, Certificate> trusted(final File src,
+        final Pattern aliases) throws IOException {
+        try (InputStream input = Files.newInputStream(src.toPath())) {
+            final KeyStore source = KeyStore.getInstance(
+                KeyStore.getDefaultType()
             );
+            source.load(input, Cacerts.STD_PWD.toCharArray());
+            final Map<String, Certificate> certs = new HashMap<>(0);
+            for (final String alias : Collections.list(source.aliases())) {
+                if (source.isCertificateEntry(alias)
+                    && aliases.matcher(alias).matches()) {
+                    certs.put(alias, source.getCertificate(alias));
+                }
+            }
+            return certs;
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
         }
     }
 
-    private static void convert(final File src, final File dest)
+    /**
+     * Copy all entries of the source trust store into a new JKS file,
+     * by {@code keytool -importkeystore}, which is forked unless it can
+     * run inside this JVM.
+     * @param src Source trust store
+     * @param dest Destination JKS file
+     * @throws IOException If fails
+     */
+    static void forked(final File src, final File dest) throws IOException {
+        Cacerts.forked(src, dest, new Profile());
+    }
+
+    /**
+     * Copy all entries of the source trust store into a new JKS file,
+     * by {@code keytool -importkeystore}, with the given JVM profile.
+     * @param src Source trust store
+     * @param dest Destination JKS file
+     * @param prof Profile of keytool JVM, if forked
+     * @throws IOException If fails
+     */
+    static void forked(final File src, final File dest, final Profile prof)
         throws IOException {
         dest.getParentFile().mkdirs();
-        final List<String> cmds = new ArrayList<>(15);
-        cmds.add(
-            String.format(
-                "%s/bin/keytool",
-                System.getProperty("java.home")
-            )
-        );
-        cmds.add("-importkeystore");
-        cmds.add("-srckeystore");
-        cmds.add(src.getAbsolutePath());
-        cmds.add("-srcstorepass");
-        cmds.add(Cacerts.STD_PWD);
-        cmds.add("-destkeystore");
-        cmds.add(dest.getAbsolutePath());
-        cmds.add("-deststorepass");
-        cmds.add(Cacerts.STD_PWD);
-        cmds.add("-deststoretype");
-        cmds.add("jks");
-        cmds.add("-noprompt");
-        final ProcessBuilder builder = new ProcessBuilder(cmds);
-        builder.environment().put(
-            "JAVA_TOOL_OPTIONS",
-            "-Dfile.encoding=UTF-8 -Dstdout.encoding=UTF-8"
-        );
-        new VerboseProcess(builder, Level.FINE, Level.FINE).stdout();
+        dest.delete();
+        new Launch(
+            prof,
+            "-importkeystore",
+            "-srckeystore",
+            src.getAbsolutePath(),
+            "-srcstorepass",
+            Cacerts.STD_PWD,
+            "-destkeystore",
+            dest.getAbsolutePath(),
+            "-deststorepass",
+            Cacerts.STD_PWD,
+            "-deststoretype",
+            "jks",
+            "-noprompt"
+        ).stdout();
     }
 }
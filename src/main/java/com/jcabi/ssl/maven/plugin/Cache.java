@@ -0,0 +1,198 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.UUID;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Machine-wide cache of generated keystores and truststores, where
+ * every entry is a directory named by the fingerprint of the inputs.
+ *
+ * <p>Entries are evicted in LRU order, when there are more of them
+ * than allowed. The last modification time of the directory is the
+ * time of its last use. An entry with a certificate that expires soon,
+ * or with stores that can't be opened, is deleted when it's fetched,
+ * so that it's generated again instead of being reused forever.
+ *
+ * <p>In zero-copy mode stores are not copied into and out of the cache,
+ * but linked, see {@link Link}, or copied read-only, where a link is not
+ * possible. Neither a module nor the cache rewrites a store in place, so
+ * neither of them changes the bytes the other one sees.
+ *
+ * @since 1.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = { "dir", "max", "links" })
+final class Cache {
+
+    /**
+     * Name of the keystore file inside an entry.
+     */
+    private static final String KEYSTORE = "keystore.jks";
+
+    /**
+     * Name of the truststore file inside an entry.
+     */
+    private static final String CACERTS = "cacerts.jks";
+
+    /**
+     * Directory of the cache.
+     */
+    private final transient String dir;
+
+    /**
+     * Maximum number of entries to keep.
+     */
+    private final transient int max;
+
+    /**
+     * Shall stores be linked instead of copied?
+     */
+    private final transient boolean links;
+
+    /**
+     * Ctor.
+     * @param path Directory of the cache
+     * @param size Maximum number of entries to keep
+     */
+    Cache(final File path, final int size) {
+        this(path, size, false);
+    }
+
+    /**
+     * Ctor.
+     * @param path Directory of the cache
+     * @param size Maximum number of entries to keep
+     * @param lnk Link stores instead of copying them
+     */
+    Cache(final File path, final int size, final boolean lnk) {
+        this.dir = path.getAbsolutePath();
+        this.max = size;
+        this.links = lnk;
+    }
+
+    /**
+     * Copy cached stores into the given files, if they are in cache
+     * and still valid.
+     * @param key Fingerprint of the inputs
+     * @param keystore Where to copy the keystore
+     * @param cacerts Where to copy the truststore
+     * @param store The keystore, which validates cached stores
+     * @return TRUE if found in cache and copied
+     * @throws IOException If fails
+     */
+    @Loggable(Loggable.DEBUG)
+    boolean fetch(final String key, final File keystore, final File cacerts,
+        final Keystore store) throws IOException {
+        final File entry = new File(this.dir, key);
+        boolean hit = entry.isDirectory();
+        if (hit && !store.valid(
+            new File(entry, Cache.KEYSTORE),
+            new Cacerts(new File(entry, Cache.CACERTS))
+        )) {
+            FileUtils.deleteQuietly(entry);
+            Logger.info(
+                this, "Cache entry %s is not valid any more, deleted", key
+            );
+            hit = false;
+        }
+        if (hit) {
+            this.replicate(new File(entry, Cache.KEYSTORE), keystore);
+            this.replicate(new File(entry, Cache.CACERTS), cacerts);
+            entry.setLastModified(System.currentTimeMillis());
+            Logger.info(
+                this,
+                "Cache hit: keystore and truststore %s reused from '%s'",
+                key,
+                entry
+            );
+        }
+        return hit;
+    }
+
+    /**
+     * Put generated stores into the cache and evict old entries.
+     * @param key Fingerprint of the inputs
+     * @param keystore The keystore
+     * @param cacerts The truststore
+     * @throws IOException If fails
+     */
+    @Loggable(Loggable.DEBUG)
+    void store(final String key, final File keystore, final File cacerts)
+        throws IOException {
+        final File temp = new File(
+            this.dir, String.format(".%s", UUID.randomUUID())
+        );
+        this.replicate(keystore, new File(temp, Cache.KEYSTORE));
+        this.replicate(cacerts, new File(temp, Cache.CACERTS));
+        final File entry = new File(this.dir, key);
+        try {
+            Files.move(
+                temp.toPath(), entry.toPath(), StandardCopyOption.ATOMIC_MOVE
+            );
+            Logger.info(
+                this, "Keystore and truststore %s cached in '%s'",
+                key, this.dir
+            );
+        } catch (final IOException ex) {
+            if (!entry.isDirectory()) {
+                throw ex;
+            }
+            Logger.debug(this, "Entry %s is already in cache: %s", key, ex);
+        } finally {
+            FileUtils.deleteQuietly(temp);
+        }
+        this.evict();
+    }
+
+    /**
+     * Copy or link the file.
+     * @param src The original file
+     * @param dest Where the replica should be
+     * @throws IOException If fails
+     */
+    private void replicate(final File src, final File dest)
+        throws IOException {
+        if (this.links) {
+            new Link(src, dest, true).make();
+        } else {
+            FileUtils.copyFile(src, dest);
+        }
+    }
+
+    /**
+     * Delete least recently used entries, above the maximum.
+     */
+    private void evict() {
+        final File[] entries = new File(this.dir).listFiles(
+            file -> file.isDirectory() && file.getName().charAt(0) != '.'
+        );
+        if (entries != null && entries.length > this.max) {
+            Arrays.sort(
+                entries,
+                Comparator.comparingLong(File::lastModified).reversed()
+            );
+            for (int idx = this.max; idx < entries.length; ++idx) {
+                FileUtils.deleteQuietly(entries[idx]);
+                Logger.info(
+                    this, "Cache entry '%s' evicted", entries[idx].getName()
+                );
+            }
+        }
+    }
+}
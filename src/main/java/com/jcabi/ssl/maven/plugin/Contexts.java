@@ -0,0 +1,211 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+
+/**
+ * SSL contexts, made once per JVM, of the stores on disk or of a key
+ * generated in memory, when there are no stores.
+ *
+ * <p>The key in memory is of {@code localhost} and {@code 127.0.0.1},
+ * and the context trusts only its certificate.
+ *
+ * <p>A context of the stores is made again when their files change,
+ * for example when they are regenerated by a build that runs in the same
+ * JVM, like in Maven daemon, and the previous one is forgotten.
+ *
+ * @since 1.0
+ */
+final class Contexts {
+
+    /**
+     * Contexts made before, by their sources, with versions of the files
+     * they were made of.
+     */
+    private static final
+        ConcurrentMap<String, Map.Entry<String, SSLContext>> CONTEXTS =
+            new ConcurrentHashMap<>(1);
+
+    /**
+     * Source of in-memory context.
+     */
+    private static final String MEMORY = "memory";
+
+    /**
+     * Utility class.
+     */
+    private Contexts() {
+        // intentionally empty
+    }
+
+    /**
+     * The context, made of the stores in the given properties, or in
+     * memory, if they are not there.
+     * @param props Properties with {@code javax.net.ssl.*}
+     * @return The context, the same every time for the same stores,
+     *  until their files change
+     * @throws IOException If fails
+     */
+    static SSLContext context(final Properties props) throws IOException {
+        final String keystore = props.getProperty(Keystore.KEY);
+        final String source;
+        final String version;
+        if (keystore == null) {
+            source = Contexts.MEMORY;
+            version = "";
+        } else {
+            final String trust = props.getProperty(Cacerts.TRUST, "");
+            source = String.format("%s:%s", keystore, trust);
+            version = String.format(
+                "%s:%s", Contexts.version(keystore), Contexts.version(trust)
+            );
+        }
+        try {
+            return Contexts.CONTEXTS.compute(
+                source,
+                (src, before) -> {
+                    final Map.Entry<String, SSLContext> entry;
+                    if (before != null && before.getKey().equals(version)) {
+                        entry = before;
+                    } else {
+                        entry = new AbstractMap.SimpleImmutableEntry<>(
+                            version, Contexts.fresh(props)
+                        );
+                    }
+                    return entry;
+                }
+            ).getValue();
+        } catch (final UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Make a context of the stores in the given properties, or in memory.
+     * @param props Properties with {@code javax.net.ssl.*}
+     * @return The context
+     */
+    private static SSLContext fresh(final Properties props) {
+        try {
+            final SSLContext context;
+            if (props.getProperty(Keystore.KEY) == null) {
+                context = Contexts.memory(new Algorithm("EC", 0, null));
+            } else {
+                context = Contexts.files(props);
+            }
+            return context;
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Version of the file, which changes when it is written again.
+     * @param path Path of the file, maybe empty
+     * @return Modification time and size
+     */
+    private static String version(final String path) {
+        final File file = new File(path);
+        return String.format("%d/%d", file.lastModified(), file.length());
+    }
+
+    /**
+     * Make a context of the stores on disk.
+     * @param props Properties with {@code javax.net.ssl.*}
+     * @return The context
+     * @throws IOException If fails
+     */
+    private static SSLContext files(final Properties props)
+        throws IOException {
+        final String pwd = props.getProperty(Keystore.KEY_PWD, "");
+        final KeyStore trust;
+        if (props.getProperty(Cacerts.TRUST) == null) {
+            trust = null;
+        } else {
+            trust = Jca.load(
+                new File(props.getProperty(Cacerts.TRUST)),
+                props.getProperty(Cacerts.TRUST_PWD, Cacerts.STD_PWD)
+            );
+        }
+        return Contexts.make(
+            Jca.load(new File(props.getProperty(Keystore.KEY)), pwd),
+            pwd, trust
+        );
+    }
+
+    /**
+     * Make a new context of a key generated in memory, which is not
+     * cached.
+     * @param alg Algorithm of the key
+     * @return The context
+     * @throws IOException If fails
+     */
+    static SSLContext memory(final Algorithm alg) throws IOException {
+        final KeyStore.PrivateKeyEntry entry = Jca.entry(
+            Jca.template(Keytool.LOCALHOST, alg, 0L).with(
+                Arrays.asList(Keytool.LOCALHOST, "127.0.0.1")
+            ),
+            alg, new SecureRandom()
+        );
+        try {
+            final KeyStore keys = KeyStore.getInstance("pkcs12");
+            keys.load(null, null);
+            keys.setEntry(
+                Keytool.LOCALHOST, entry,
+                new KeyStore.PasswordProtection(Cacerts.STD_PWD.toCharArray())
+            );
+            final KeyStore trust = KeyStore.getInstance("pkcs12");
+            trust.load(null, null);
+            trust.setCertificateEntry(
+                Keytool.LOCALHOST, entry.getCertificate()
+            );
+            return Contexts.make(keys, Cacerts.STD_PWD, trust);
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Make a context.
+     * @param keys The keystore
+     * @param pwd Password of the key
+     * @param trust The truststore, or NULL to use the default one
+     * @return The context
+     * @throws IOException If fails
+     */
+    private static SSLContext make(final KeyStore keys, final String pwd,
+        final KeyStore trust) throws IOException {
+        try {
+            final KeyManagerFactory kmf = KeyManagerFactory.getInstance(
+                KeyManagerFactory.getDefaultAlgorithm()
+            );
+            kmf.init(keys, pwd.toCharArray());
+            final TrustManagerFactory tmf = TrustManagerFactory.getInstance(
+                TrustManagerFactory.getDefaultAlgorithm()
+            );
+            tmf.init(trust);
+            final SSLContext context = SSLContext.getInstance("TLS");
+            context.init(kmf.getKeyManagers(), tmf.getTrustManagers(), null);
+            return context;
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+    }
+}
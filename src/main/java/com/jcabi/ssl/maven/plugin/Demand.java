@@ -0,0 +1,121 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import lombok.ToString;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Demand for keystore and truststore in the build, judged by the goals
+ * and phases Maven was started with and by properties that skip tests.
+ *
+ * <p>Stores are consumed by tests, which Surefire runs in {@code test}
+ * phase and Failsafe in {@code integration-test} phase. If the build
+ * doesn't reach these phases, like {@code mvn compile}, or tests are
+ * skipped, like {@code mvn install -DskipTests}, nobody needs the stores.
+ * A goal of a plugin, started directly, like {@code jetty:run}, may need
+ * them, and so does a build with unknown goals.
+ *
+ * <p>Generation that is not needed may be deferred: it is kept in the
+ * project and done by the first goal of this plugin that needs the
+ * stores, see {@link #settle(MavenProject)}.
+ *
+ * @since 1.0
+ */
+@ToString
+final class Demand {
+
+    /**
+     * Phases of the default lifecycle, in order.
+     */
+    private static final List<String> PHASES = Arrays.asList(
+        "validate", "initialize", "generate-sources", "process-sources",
+        "generate-resources", "process-resources", "compile",
+        "process-classes", "generate-test-sources", "process-test-sources",
+        "generate-test-resources", "process-test-resources", "test-compile",
+        "process-test-classes", "test", "prepare-package", "package",
+        "pre-integration-test", "integration-test", "post-integration-test",
+        "verify", "install", "deploy"
+    );
+
+    /**
+     * Goals and phases Maven was started with.
+     */
+    private final transient Collection<String> goals;
+
+    /**
+     * Properties of the build.
+     */
+    private final transient Properties props;
+
+    /**
+     * Ctor.
+     * @param tasks Goals and phases Maven was started with
+     * @param properties Properties of the build
+     */
+    Demand(final Collection<String> tasks, final Properties properties) {
+        this.goals = tasks;
+        this.props = properties;
+    }
+
+    /**
+     * Is there anybody who may need the stores?
+     * @return TRUE if the stores must be generated
+     */
+    boolean exists() {
+        boolean exists = this.goals.isEmpty();
+        int last = -1;
+        for (final String goal : this.goals) {
+            if (goal.contains(":")) {
+                exists = true;
+            }
+            last = Math.max(last, Demand.PHASES.indexOf(goal));
+        }
+        if (last >= Demand.PHASES.indexOf("test")
+            && !this.skipped("skipTests", "maven.test.skip")) {
+            exists = true;
+        }
+        if (last >= Demand.PHASES.indexOf("integration-test")
+            && !this.skipped("skipTests", "maven.test.skip", "skipITs")) {
+            exists = true;
+        }
+        return exists;
+    }
+
+    /**
+     * Do the generation that was deferred in the project, if any.
+     * @param project The project
+     * @throws IOException If fails
+     */
+    static void settle(final MavenProject project) throws IOException {
+        final Object step = project.getContextValue(Demand.class.getName());
+        if (step != null) {
+            project.setContextValue(Demand.class.getName(), null);
+            ((Parallel.Step) step).exec();
+        }
+    }
+
+    /**
+     * Is any of these flags set?
+     * @param flags Names of properties
+     * @return TRUE if at least one of them is set and not {@code false}
+     */
+    private boolean skipped(final String... flags) {
+        boolean skipped = false;
+        for (final String flag : flags) {
+            final String value = this.props.getProperty(flag);
+            if (value != null && !"false".equalsIgnoreCase(value.trim())) {
+                skipped = true;
+                break;
+            }
+        }
+        return skipped;
+    }
+}
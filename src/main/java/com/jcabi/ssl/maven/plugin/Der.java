@@ -0,0 +1,234 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+
+/**
+ * Minimal DER encoder, just enough to build X.509 certificates.
+ * @since 1.0
+ */
+final class Der {
+
+    /**
+     * Tag of SEQUENCE.
+     */
+    private static final int SEQUENCE = 0x30;
+
+    /**
+     * Tag of INTEGER.
+     */
+    private static final int INTEGER = 0x02;
+
+    /**
+     * Tag of OBJECT IDENTIFIER.
+     */
+    private static final int OID = 0x06;
+
+    /**
+     * Tag of BIT STRING.
+     */
+    private static final int BITS = 0x03;
+
+    /**
+     * Tag of OCTET STRING.
+     */
+    private static final int OCTETS = 0x04;
+
+    /**
+     * Tag of UTCTime.
+     */
+    private static final int UTC = 0x17;
+
+    /**
+     * Tag of GeneralizedTime.
+     */
+    private static final int GENERALIZED = 0x18;
+
+    /**
+     * First year that can't be encoded as UTCTime.
+     */
+    private static final int Y2050 = 2050;
+
+    /**
+     * Utility class.
+     */
+    private Der() {
+        // intentionally empty
+    }
+
+    /**
+     * Encode a SEQUENCE.
+     * @param parts Encoded elements
+     * @return DER bytes
+     */
+    static byte[] sequence(final byte[]... parts) {
+        return Der.tlv(Der.SEQUENCE, parts);
+    }
+
+    /**
+     * Encode an INTEGER.
+     * @param num The number
+     * @return DER bytes
+     */
+    static byte[] integer(final BigInteger num) {
+        return Der.tlv(Der.INTEGER, num.toByteArray());
+    }
+
+    /**
+     * Encode a NULL.
+     * @return DER bytes
+     */
+    static byte[] nul() {
+        return new byte[] {0x05, 0x00};
+    }
+
+    /**
+     * Encode a BOOLEAN.
+     * @param value The value
+     * @return DER bytes
+     */
+    static byte[] bool(final boolean value) {
+        final byte[] bytes = {0x01, 0x01, 0x00};
+        if (value) {
+            bytes[2] = (byte) 0xFF;
+        }
+        return bytes;
+    }
+
+    /**
+     * Encode an OBJECT IDENTIFIER.
+     * @param dotted Dotted notation, like {@code "1.2.840.113549.1.1.11"}
+     * @return DER bytes
+     */
+    static byte[] oid(final String dotted) {
+        final String[] arcs = dotted.split("\\.");
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Der.base128(
+            out,
+            Long.parseLong(arcs[0]) * 40L + Long.parseLong(arcs[1])
+        );
+        for (int idx = 2; idx < arcs.length; ++idx) {
+            Der.base128(out, Long.parseLong(arcs[idx]));
+        }
+        return Der.tlv(Der.OID, out.toByteArray());
+    }
+
+    /**
+     * Encode a BIT STRING with no unused bits.
+     * @param content The bits
+     * @return DER bytes
+     */
+    static byte[] bits(final byte[] content) {
+        return Der.tlv(Der.BITS, new byte[] {0x00}, content);
+    }
+
+    /**
+     * Encode an OCTET STRING.
+     * @param content The octets
+     * @return DER bytes
+     */
+    static byte[] octets(final byte[] content) {
+        return Der.tlv(Der.OCTETS, content);
+    }
+
+    /**
+     * Encode a time, as UTCTime or GeneralizedTime, as RFC 5280 demands.
+     * @param date The date
+     * @return DER bytes
+     */
+    static byte[] time(final Date date) {
+        final SimpleDateFormat year = new SimpleDateFormat(
+            "yyyy", Locale.ENGLISH
+        );
+        year.setTimeZone(TimeZone.getTimeZone("UTC"));
+        final int tag;
+        final String pattern;
+        if (Integer.parseInt(year.format(date)) < Der.Y2050) {
+            tag = Der.UTC;
+            pattern = "yyMMddHHmmss'Z'";
+        } else {
+            tag = Der.GENERALIZED;
+            pattern = "yyyyMMddHHmmss'Z'";
+        }
+        final SimpleDateFormat fmt = new SimpleDateFormat(
+            pattern, Locale.ENGLISH
+        );
+        fmt.setTimeZone(TimeZone.getTimeZone("UTC"));
+        return Der.tlv(
+            tag, fmt.format(date).getBytes(StandardCharsets.US_ASCII)
+        );
+    }
+
+    /**
+     * Wrap content into a context-specific EXPLICIT tag.
+     * @param num Tag number
+     * @param content Encoded element
+     * @return DER bytes
+     */
+    static byte[] explicit(final int num, final byte[] content) {
+        return Der.tlv(0xA0 | num, content);
+    }
+
+    /**
+     * Encode a context-specific IMPLICIT primitive value.
+     * @param num Tag number
+     * @param content Raw value
+     * @return DER bytes
+     */
+    static byte[] implicit(final int num, final byte[] content) {
+        return Der.tlv(0x80 | num, content);
+    }
+
+    /**
+     * Encode a tag, length and value.
+     * @param tag The tag
+     * @param parts Parts of the value, to be concatenated
+     * @return DER bytes
+     */
+    static byte[] tlv(final int tag, final byte[]... parts) {
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (final byte[] part : parts) {
+            body.write(part, 0, part.length);
+        }
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(tag);
+        final int len = body.size();
+        if (len < 0x80) {
+            out.write(len);
+        } else {
+            final byte[] size = BigInteger.valueOf(len).toByteArray();
+            int start = 0;
+            if (size[0] == 0) {
+                start = 1;
+            }
+            out.write(0x80 | size.length - start);
+            out.write(size, start, size.length - start);
+        }
+        out.write(body.toByteArray(), 0, len);
+        return out.toByteArray();
+    }
+
+    /**
+     * Write one OID arc in base-128.
+     * @param out Where to write
+     * @param arc The arc
+     */
+    private static void base128(final ByteArrayOutputStream out,
+        final long arc) {
+        int shift = 63 - Long.numberOfLeadingZeros(arc | 1L);
+        shift -= shift % 7;
+        for (int pos = shift; pos > 0; pos -= 7) {
+            out.write((int) (arc >>> pos & 0x7F | 0x80));
+        }
+        out.write((int) (arc & 0x7F));
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Source of randomness for key generation.
+ *
+ * <p>In a container without enough entropy the default {@link SecureRandom}
+ * may block for seconds while it's being seeded. Algorithms like
+ * {@code NativePRNGNonBlocking} or {@code DRBG} don't, if they are seeded
+ * from {@code /dev/urandom}.
+ *
+ * <p>Forked keytool has no option to select the algorithm, that's why it
+ * gets {@code java.security.egd} instead, which points the seed source
+ * of all JDK algorithms to {@code /dev/urandom}, unless a blocking
+ * algorithm is selected.
+ *
+ * <p>A seeded source, see {@link #seeded(String)}, makes the same bytes
+ * every time it's asked for them, which makes generated keys
+ * reproducible. It must never be used for keys that protect anything.
+ *
+ * @since 1.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = { "algorithm", "seed" })
+final class Entropy {
+
+    /**
+     * Algorithm of deterministic sources, which doesn't mix the seed
+     * with system entropy, if it's set before the first use.
+     */
+    private static final String STABLE = "SHA1PRNG";
+
+    /**
+     * Instances already made and seeded, by algorithm.
+     */
+    private static final ConcurrentMap<String, SecureRandom> SEEDED =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * Algorithm of {@link SecureRandom}, or empty for the default one.
+     */
+    private final transient String algorithm;
+
+    /**
+     * Seed, or empty if the source is not deterministic.
+     */
+    private final transient String seed;
+
+    /**
+     * Ctor, of the default platform algorithm.
+     */
+    Entropy() {
+        this("");
+    }
+
+    /**
+     * Ctor.
+     * @param alg Algorithm of {@link SecureRandom}, or NULL or empty for
+     *  the default one
+     */
+    Entropy(final String alg) {
+        this(Entropy.trimmed(alg), "");
+    }
+
+    /**
+     * Ctor.
+     * @param alg Algorithm of {@link SecureRandom}, or empty
+     * @param text Seed, or empty
+     */
+    private Entropy(final String alg, final String text) {
+        this.algorithm = alg;
+        this.seed = text;
+    }
+
+    /**
+     * Deterministic source, seeded with the given text.
+     * @param text The seed
+     * @return Source of the same bytes for the same seed
+     */
+    static Entropy seeded(final String text) {
+        final String seed = Entropy.trimmed(text);
+        if (seed.isEmpty()) {
+            throw new IllegalArgumentException(
+                "Seed of deterministic key generation can't be empty"
+            );
+        }
+        return new Entropy(Entropy.STABLE, seed);
+    }
+
+    /**
+     * Source for one of many keys, which, if this one is deterministic,
+     * doesn't depend on the order the keys are generated in.
+     * @param name Unique name of the key
+     * @return Source, seeded with the seed of this one and the name,
+     *  or this one, if it's not deterministic
+     */
+    Entropy derived(final String name) {
+        final Entropy entropy;
+        if (this.deterministic()) {
+            entropy = new Entropy(
+                this.algorithm, String.format("%s/%s", this.seed, name)
+            );
+        } else {
+            entropy = this;
+        }
+        return entropy;
+    }
+
+    /**
+     * Does it make the same bytes every time?
+     * @return TRUE if it's seeded
+     */
+    boolean deterministic() {
+        return !this.seed.isEmpty();
+    }
+
+    /**
+     * Where the randomness comes from, for fingerprints of the output.
+     * @return Text, which is different for different seeds
+     */
+    String source() {
+        final String src;
+        if (this.deterministic()) {
+            src = String.format("seed:%s", this.seed);
+        } else {
+            src = "random";
+        }
+        return src;
+    }
+
+    /**
+     * Get seeded instance of {@link SecureRandom}.
+     * @return The instance, safe to share between threads, or a new one
+     *  at the beginning of its sequence, if it's deterministic
+     * @throws IOException If the algorithm is not available
+     */
+    SecureRandom random() throws IOException {
+        SecureRandom random;
+        if (this.deterministic()) {
+            random = this.fresh();
+        } else {
+            random = Entropy.SEEDED.get(this.algorithm);
+            if (random == null) {
+                random = this.fresh();
+                final SecureRandom prev = Entropy.SEEDED.putIfAbsent(
+                    this.algorithm, random
+                );
+                if (prev != null) {
+                    random = prev;
+                }
+            }
+        }
+        return random;
+    }
+
+    /**
+     * Make sure the instance is seeded, and log how long it waited for
+     * entropy.
+     * @throws IOException If fails
+     */
+    void seed() throws IOException {
+        final long start = System.nanoTime();
+        this.random();
+        Logger.info(
+            this, "SecureRandom '%s' seeded in %[nano]s",
+            this.name(), System.nanoTime() - start
+        );
+    }
+
+    /**
+     * JVM options of forked keytool.
+     * @return Options, separated by spaces, may be empty
+     */
+    String options() {
+        final String opts;
+        if (this.algorithm.isEmpty()
+            || (this.algorithm.endsWith("Blocking")
+            && !this.algorithm.endsWith("NonBlocking"))) {
+            opts = "";
+        } else {
+            opts = "-Djava.security.egd=file:/dev/urandom";
+        }
+        return opts;
+    }
+
+    /**
+     * Make and seed a new instance.
+     * @return The instance
+     * @throws IOException If fails
+     */
+    private SecureRandom fresh() throws IOException {
+        final SecureRandom random;
+        if (this.algorithm.isEmpty()) {
+            random = new SecureRandom();
+        } else {
+            try {
+                random = SecureRandom.getInstance(this.algorithm);
+            } catch (final GeneralSecurityException ex) {
+                throw new IOException(
+                    String.format(
+                        "SecureRandom algorithm '%s' is not available",
+                        this.algorithm
+                    ),
+                    ex
+                );
+            }
+        }
+        if (this.deterministic()) {
+            random.setSeed(this.seed.getBytes(StandardCharsets.UTF_8));
+        } else {
+            random.nextBytes(new byte[1]);
+        }
+        return random;
+    }
+
+    /**
+     * Trim the text, which may be NULL.
+     * @param text The text
+     * @return Trimmed text, maybe empty
+     */
+    private static String trimmed(final String text) {
+        final String trimmed;
+        if (text == null) {
+            trimmed = "";
+        } else {
+            trimmed = text.trim();
+        }
+        return trimmed;
+    }
+
+    /**
+     * Name of the algorithm, for logging.
+     * @return Name
+     */
+    private String name() {
+        final String name;
+        if (this.algorithm.isEmpty()) {
+            name = "default";
+        } else {
+            name = this.algorithm;
+        }
+        return name;
+    }
+}
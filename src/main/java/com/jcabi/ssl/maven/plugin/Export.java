@@ -0,0 +1,251 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.log.Logger;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.TreeSet;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Key and certificates of the keystore and the truststore, exported
+ * in formats that non-JVM services understand, in one pass.
+ *
+ * <p>Next to {@code keystore.jks} it writes {@code keystore.p12}, with
+ * the same key, password and alias, {@code keystore.crt}, with the chain
+ * of certificates in PEM, and {@code keystore.key}, with the private key
+ * in unencrypted PKCS#8 PEM. Next to {@code cacerts.jks} it writes
+ * {@code cacerts.pem}, with all certificates the JVM trusts, in PEM,
+ * including the first certificate of each key entry. Both stores
+ * are read once and nothing is forked. Files that are newer than both
+ * stores are not written again. PKCS12 is encrypted with a random salt,
+ * so {@code keystore.p12} differs from build to build, even when the
+ * key is deterministic; PEM files don't.
+ *
+ * @since 1.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = { "keystore", "truststore" })
+final class Export {
+
+    /**
+     * Property with the location of PKCS12 keystore.
+     */
+    static final String PKCS12 = "jcabi.ssl.pkcs12";
+
+    /**
+     * Property with the location of PEM certificate chain.
+     */
+    static final String CERT = "jcabi.ssl.certificate";
+
+    /**
+     * Property with the location of PKCS#8 PEM private key.
+     */
+    static final String PRIVATE = "jcabi.ssl.privateKey";
+
+    /**
+     * Property with the location of PEM bundle of trusted certificates.
+     */
+    static final String BUNDLE = "jcabi.ssl.caBundle";
+
+    /**
+     * Location of the keystore.
+     */
+    private final transient String keystore;
+
+    /**
+     * Password of the keystore and the key.
+     */
+    private final transient String password;
+
+    /**
+     * Location of the truststore.
+     */
+    private final transient String truststore;
+
+    /**
+     * Ctor.
+     * @param key The keystore
+     * @param pwd Password of the keystore and the key
+     * @param trust The truststore
+     */
+    Export(final File key, final String pwd, final File trust) {
+        this.keystore = key.getAbsolutePath();
+        this.password = pwd;
+        this.truststore = trust.getAbsolutePath();
+    }
+
+    /**
+     * Write all formats, unless they are up to date, and populate given
+     * properties with their locations.
+     * @param props Properties to populate
+     * @return Bytes written
+     * @throws IOException If fails
+     */
+    @Loggable(Loggable.DEBUG)
+    long write(final Properties props) throws IOException {
+        final File key = new File(this.keystore);
+        final File trust = new File(this.truststore);
+        final File pkcs = Export.sibling(key, "p12");
+        final File cert = Export.sibling(key, "crt");
+        final File pkey = Export.sibling(key, "key");
+        final File bundle = Export.sibling(trust, "pem");
+        long bytes = 0L;
+        if (this.stale(pkcs, cert, pkey, bundle)) {
+            try {
+                final KeyStore store = Jca.load(key, this.password);
+                final KeyStore.PrivateKeyEntry entry =
+                    (KeyStore.PrivateKeyEntry) store.getEntry(
+                        Keytool.LOCALHOST,
+                        new KeyStore.PasswordProtection(
+                            this.password.toCharArray()
+                        )
+                    );
+                final KeyStore target = KeyStore.getInstance("pkcs12");
+                target.load(null, null);
+                target.setKeyEntry(
+                    Keytool.LOCALHOST,
+                    entry.getPrivateKey(),
+                    this.password.toCharArray(),
+                    entry.getCertificateChain()
+                );
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                target.store(out, this.password.toCharArray());
+                Jca.write(pkcs, out.toByteArray());
+                final StringBuilder chain = new StringBuilder();
+                for (final Certificate crt : entry.getCertificateChain()) {
+                    chain.append(Export.pem("CERTIFICATE", crt.getEncoded()));
+                }
+                Export.save(cert, chain);
+                Export.save(
+                    pkey,
+                    Export.pem(
+                        "PRIVATE KEY", entry.getPrivateKey().getEncoded()
+                    )
+                );
+                final KeyStore anchors = Jca.load(trust, Cacerts.STD_PWD);
+                final StringBuilder all = new StringBuilder();
+                for (final String alias
+                    : new TreeSet<>(Collections.list(anchors.aliases()))) {
+                    final Certificate crt = anchors.getCertificate(alias);
+                    if (crt != null) {
+                        all.append(Export.pem("CERTIFICATE", crt.getEncoded()));
+                    }
+                }
+                Export.save(bundle, all);
+            } catch (final GeneralSecurityException ex) {
+                throw new IOException(ex);
+            }
+            bytes = pkcs.length() + cert.length() + pkey.length()
+                + bundle.length();
+            Logger.info(
+                this, "Key exported to '%s', '%s' and '%s', anchors to '%s'",
+                pkcs, cert, pkey, bundle
+            );
+        }
+        this.populate(props);
+        return bytes;
+    }
+
+    /**
+     * Populate given properties with locations of all formats, even if
+     * they are not written yet.
+     * @param props Properties to populate
+     */
+    void populate(final Properties props) {
+        final File key = new File(this.keystore);
+        props.put(Export.PKCS12, Export.sibling(key, "p12").getAbsolutePath());
+        props.put(Export.CERT, Export.sibling(key, "crt").getAbsolutePath());
+        props.put(
+            Export.PRIVATE, Export.sibling(key, "key").getAbsolutePath()
+        );
+        props.put(
+            Export.BUNDLE,
+            Export.sibling(new File(this.truststore), "pem").getAbsolutePath()
+        );
+    }
+
+    /**
+     * Is any of the files missing or older than the stores?
+     * @param files The files
+     * @return TRUE if they must be written again
+     */
+    private boolean stale(final File... files) {
+        final long since = Math.max(
+            new File(this.keystore).lastModified(),
+            new File(this.truststore).lastModified()
+        );
+        boolean stale = false;
+        for (final File file : files) {
+            if (!file.exists() || file.lastModified() < since) {
+                stale = true;
+                break;
+            }
+        }
+        return stale;
+    }
+
+    /**
+     * File next to the given one, with another extension.
+     * @param file The file
+     * @param ext New extension
+     * @return The file
+     */
+    private static File sibling(final File file, final String ext) {
+        final String name = file.getName();
+        final int dot = name.lastIndexOf('.');
+        final String base;
+        if (dot > 0) {
+            base = name.substring(0, dot);
+        } else {
+            base = name;
+        }
+        return new File(
+            file.getAbsoluteFile().getParentFile(),
+            String.format("%s.%s", base, ext)
+        );
+    }
+
+    /**
+     * Encode the bytes as PEM.
+     * @param type Type of the content, like {@code CERTIFICATE}
+     * @param der DER bytes
+     * @return PEM text, with a line break at the end
+     */
+    private static String pem(final String type, final byte[] der) {
+        return String.format(
+            "-----BEGIN %s-----\n%s\n-----END %s-----\n",
+            type,
+            Base64.getMimeEncoder(
+                64, "\n".getBytes(StandardCharsets.US_ASCII)
+            ).encodeToString(der),
+            type
+        );
+    }
+
+    /**
+     * Save the text.
+     * @param file Where to save it
+     * @param text The text
+     * @throws IOException If fails
+     */
+    private static void save(final File file, final CharSequence text)
+        throws IOException {
+        Jca.write(file, text.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.aspects.Immutable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Fingerprint of the inputs of key generation, a SHA-256 hash of them.
+ * @since 1.0
+ */
+@Immutable
+@EqualsAndHashCode(of = "inputs")
+final class Fingerprint {
+
+    /**
+     * Inputs, in order.
+     */
+    @Immutable.Array
+    private final transient String[] inputs;
+
+    /**
+     * Ctor.
+     * @param parts Inputs, in order
+     */
+    Fingerprint(final String... parts) {
+        this.inputs = Arrays.copyOf(parts, parts.length);
+    }
+
+    @Override
+    public String toString() {
+        return DigestUtils.sha256Hex(String.join("\n", this.inputs));
+    }
+
+    /**
+     * Was this fingerprint recorded in the file before?
+     * @param file The file
+     * @return TRUE if the file exists and contains this fingerprint
+     * @throws IOException If fails
+     */
+    boolean recorded(final File file) throws IOException {
+        return file.exists() && this.toString().equals(
+            FileUtils.readFileToString(file, StandardCharsets.UTF_8).trim()
+        );
+    }
+
+    /**
+     * Record this fingerprint in the file.
+     * @param file The file
+     * @throws IOException If fails
+     */
+    void record(final File file) throws IOException {
+        FileUtils.writeStringToFile(
+            file, this.toString(), StandardCharsets.UTF_8
+        );
+    }
+
+    /**
+     * SHA-256 digest of the file content.
+     * @param file The file
+     * @return Hex digest
+     * @throws IOException If fails
+     */
+    static String digest(final File file) throws IOException {
+        try (InputStream input = Files.newInputStream(file.toPath())) {
+            return DigestUtils.sha256Hex(input);
+        }
+    }
+}
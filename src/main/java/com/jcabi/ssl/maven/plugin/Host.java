@@ -0,0 +1,134 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Certificate of one host, configured in {@code <hosts>} of the plugin.
+ *
+ * <p>The alias is the name of the entry in the keystore and the common
+ * name of the certificate. The names are DNS names and IP addresses, which
+ * go into subject alternative names; the alias is used if there are none.
+ * The key goes into the main keystore, unless a separate keystore is
+ * configured for it:
+ *
+ * <pre> &lt;hosts&gt;
+ *   &lt;host&gt;
+ *     &lt;alias&gt;orders&lt;/alias&gt;
+ *     &lt;names&gt;
+ *       &lt;name&gt;orders.local&lt;/name&gt;
+ *       &lt;name&gt;127.0.0.1&lt;/name&gt;
+ *     &lt;/names&gt;
+ *     &lt;keystore&gt;${project.build.directory}/orders.jks&lt;/keystore&gt;
+ *   &lt;/host&gt;
+ * &lt;/hosts&gt;</pre>
+ *
+ * @since 1.0
+ */
+@ToString
+@EqualsAndHashCode(of = { "alias", "names", "keystore" })
+public final class Host {
+
+    /**
+     * Alias of the entry.
+     */
+    private transient String alias;
+
+    /**
+     * DNS names and IP addresses.
+     */
+    private transient List<String> names;
+
+    /**
+     * Separate keystore, or NULL to use the main one.
+     */
+    private transient File keystore;
+
+    /**
+     * Ctor, for Maven, which sets the fields.
+     */
+    public Host() {
+        this("", Collections.emptyList(), null);
+    }
+
+    /**
+     * Ctor.
+     * @param als Alias of the entry
+     * @param sans DNS names and IP addresses
+     * @param file Separate keystore, or NULL to use the main one
+     */
+    public Host(final String als, final Collection<String> sans,
+        final File file) {
+        this.alias = als;
+        this.names = new ArrayList<>(sans);
+        this.keystore = file;
+    }
+
+    /**
+     * Alias of the entry, in lower case, as JKS keeps it.
+     * @return Alias
+     */
+    String alias() {
+        if (this.alias == null || this.alias.isBlank()) {
+            throw new IllegalArgumentException(
+                String.format("Alias of host %s can't be empty", this.names)
+            );
+        }
+        final String name = this.alias.trim().toLowerCase(Locale.ENGLISH);
+        if (Keytool.LOCALHOST.equals(name)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Alias '%s' is reserved for the main key", Keytool.LOCALHOST
+                )
+            );
+        }
+        return name;
+    }
+
+    /**
+     * Subject alternative names of the certificate.
+     * @return DNS names and IP addresses, at least one
+     */
+    List<String> names() {
+        final List<String> sans;
+        if (this.names == null || this.names.isEmpty()) {
+            sans = Collections.singletonList(this.alias());
+        } else {
+            sans = Collections.unmodifiableList(this.names);
+        }
+        return sans;
+    }
+
+    /**
+     * Keystore of the key.
+     * @param main The main keystore
+     * @return Its own keystore, if configured, or the main one
+     */
+    File keystore(final File main) {
+        final File file;
+        if (this.keystore == null) {
+            file = main;
+        } else {
+            file = this.keystore;
+        }
+        return file;
+    }
+
+    /**
+     * Does it have its own keystore?
+     * @return TRUE if its key is not in the main keystore
+     */
+    boolean separate() {
+        return this.keystore != null;
+    }
+}
@@ -0,0 +1,504 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.log.Logger;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Keytool replacement that works inside the current JVM, through
+ * the Java Cryptography Architecture, without forking a process.
+ * @since 1.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = { "keystore", "password" })
+final class Jca {
+
+    /**
+     * Validity of the certificate in days, the default of keytool.
+     */
+    private static final long VALIDITY = 90L;
+
+    /**
+     * Validity of reproducible certificates in days, which can't depend
+     * on the moment they are made.
+     */
+    static final long CENTURY = 36_525L;
+
+    /**
+     * Keystore location.
+     */
+    private final transient String keystore;
+
+    /**
+     * Keystore password.
+     */
+    private final transient String password;
+
+    /**
+     * Ctor.
+     * @param store The location of keystore
+     * @param pwd The password
+     */
+    Jca(final File store, final String pwd) {
+        this.keystore = store.getAbsolutePath();
+        this.password = pwd;
+    }
+
+    /**
+     * List content of the keystore.
+     * @return The content of it
+     * @throws IOException If fails
+     */
+    @Loggable(Loggable.DEBUG)
+    String list() throws IOException {
+        final KeyStore store = Jca.load(
+            new File(this.keystore), this.password
+        );
+        final StringBuilder text = new StringBuilder();
+        try {
+            text.append(
+                String.format(
+                    "Keystore type: %s%nKeystore provider: %s%n%n",
+                    store.getType(),
+                    store.getProvider().getName()
+                )
+            ).append(
+                String.format(
+                    "Your keystore contains %d entries%n%n", store.size()
+                )
+            );
+            for (final String alias : Collections.list(store.aliases())) {
+                text.append(String.format("Alias name: %s%n", alias));
+                Jca.describe(text, store, alias);
+            }
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Generate RSA-2048 key.
+     * @throws IOException If fails
+     */
+    void genkey() throws IOException {
+        this.genkey(new Algorithm());
+    }
+
+    /**
+     * Generate key, with the default source of randomness.
+     * @param alg Algorithm of the key and its certificate
+     * @throws IOException If fails
+     */
+    void genkey(final Algorithm alg) throws IOException {
+        this.genkey(alg, new SecureRandom());
+    }
+
+    /**
+     * Generate key.
+     * @param alg Algorithm of the key and its certificate
+     * @param random Source of randomness
+     * @throws IOException If fails
+     */
+    @Loggable(Loggable.DEBUG)
+    void genkey(final Algorithm alg, final SecureRandom random)
+        throws IOException {
+        this.create(
+            Jca.entry(Jca.template(Keytool.LOCALHOST, alg, 0L), alg, random)
+        );
+    }
+
+    /**
+     * Generate key with a certificate, which is valid for a century from
+     * the given moment, so that a seeded source of randomness makes
+     * the same key and certificate every time.
+     * @param alg Algorithm of the key and its certificate
+     * @param random Source of randomness
+     * @param from Beginning of validity, in milliseconds since epoch
+     * @throws IOException If fails
+     */
+    @Loggable(Loggable.DEBUG)
+    void genkey(final Algorithm alg, final SecureRandom random,
+        final long from) throws IOException {
+        this.create(
+            Jca.entry(Jca.template(Keytool.LOCALHOST, alg, from), alg, random)
+        );
+    }
+
+    /**
+     * Generate key with a certificate signed by the authority.
+     * @param alg Algorithm of the key and its certificate, the same
+     *  as of the authority
+     * @param random Source of randomness
+     * @param from Beginning of validity, in milliseconds since epoch,
+     *  or zero to start it now
+     * @param issuer Key and certificate of the authority
+     * @throws IOException If fails
+     */
+    @Loggable(Loggable.DEBUG)
+    void issue(final Algorithm alg, final SecureRandom random,
+        final long from, final KeyStore.PrivateKeyEntry issuer)
+        throws IOException {
+        this.create(
+            Jca.entry(
+                Jca.template(Keytool.LOCALHOST, alg, from), alg, random,
+                issuer
+            )
+        );
+    }
+
+    /**
+     * Import certificate into this store.
+     * @param file The file to import
+     * @param pwd The password there
+     * @throws IOException If fails
+     */
+    @Loggable(Loggable.DEBUG)
+    void imprt(final File file, final String pwd) throws IOException {
+        final File dest = new File(this.keystore);
+        final KeyStore source = Jca.load(file, pwd);
+        final KeyStore target = Jca.load(dest, this.password);
+        try {
+            target.setKeyEntry(
+                Keytool.LOCALHOST,
+                source.getKey(Keytool.LOCALHOST, pwd.toCharArray()),
+                this.password.toCharArray(),
+                source.getCertificateChain(Keytool.LOCALHOST)
+            );
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+        Jca.save(target, dest, this.password);
+    }
+
+    /**
+     * Is the key in this keystore usable for at least the given number
+     * of days? The alias must exist and the password must open both
+     * the keystore and the key.
+     * @param days How many days the certificate must stay valid
+     * @return TRUE if it's usable
+     */
+    @Loggable(Loggable.DEBUG)
+    boolean valid(final long days) {
+        boolean valid;
+        try {
+            final KeyStore store = Jca.load(
+                new File(this.keystore), this.password
+            );
+            final Certificate cert = store.getCertificate(Keytool.LOCALHOST);
+            valid = store.isKeyEntry(Keytool.LOCALHOST)
+                && cert instanceof X509Certificate
+                && store.getKey(
+                    Keytool.LOCALHOST, this.password.toCharArray()
+                ) != null;
+            if (valid) {
+                ((X509Certificate) cert).checkValidity(
+                    new Date(
+                        System.currentTimeMillis()
+                            + TimeUnit.DAYS.toMillis(days)
+                    )
+                );
+            }
+        } catch (final IOException | GeneralSecurityException ex) {
+            valid = false;
+        }
+        return valid;
+    }
+
+    /**
+     * Certificate that anchors the chain of the key in this keystore:
+     * the certificate of the authority, or of the key itself, if it's
+     * self-signed.
+     * @return The certificate, or NULL if there is no such entry
+     * @throws IOException If fails
+     */
+    Certificate anchor() throws IOException {
+        try {
+            final Certificate[] chain = Jca.load(
+                new File(this.keystore), this.password
+            ).getCertificateChain(Keytool.LOCALHOST);
+            final Certificate cert;
+            if (chain == null) {
+                cert = null;
+            } else {
+                cert = chain[chain.length - 1];
+            }
+            return cert;
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Does this keystore contain the certificate, as a trusted entry or
+     * as the first certificate of a key?
+     * @param cert The certificate
+     * @return TRUE if it's there
+     * @throws IOException If fails
+     */
+    boolean trusts(final Certificate cert) throws IOException {
+        try {
+            return Jca.load(new File(this.keystore), this.password)
+                .getCertificateAlias(cert) != null;
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Distinguished name of a certificate of the host.
+     * @param host Common name of it
+     * @return Distinguished name
+     */
+    static String dname(final String host) {
+        return String.join(
+            ", ",
+            String.format("CN=%s", host),
+            "OU=ACME Co.",
+            "O=software developers",
+            "L=San Francisco",
+            "ST=California",
+            "C=US"
+        );
+    }
+
+    /**
+     * Certificate of the host, valid for 90 days from now or, if
+     * the beginning is given, for a century from it, so that a seeded
+     * source of randomness makes the same certificate every time.
+     * @param host Common name of it
+     * @param alg Algorithm of the key and the signature
+     * @param from Beginning of validity, in milliseconds since epoch,
+     *  or zero to start it now
+     * @return Certificate to sign
+     */
+    static X509 template(final String host, final Algorithm alg,
+        final long from) {
+        final X509 cert;
+        if (from == 0L) {
+            cert = new X509(Jca.dname(host), Jca.VALIDITY, alg);
+        } else {
+            cert = new X509(Jca.dname(host), Jca.CENTURY, alg, from);
+        }
+        return cert;
+    }
+
+    /**
+     * Generate key and sign its certificate.
+     * @param template Certificate to sign
+     * @param alg Algorithm of the key
+     * @param random Source of randomness
+     * @return Key with its certificate
+     * @throws IOException If fails
+     */
+    static KeyStore.PrivateKeyEntry entry(final X509 template,
+        final Algorithm alg, final SecureRandom random) throws IOException {
+        final KeyPair pair;
+        try {
+            pair = alg.generate(random);
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+        return new KeyStore.PrivateKeyEntry(
+            pair.getPrivate(),
+            new Certificate[] {template.selfSigned(pair, random)}
+        );
+    }
+
+    /**
+     * Generate key and make its certificate, signed by the authority.
+     * @param template Certificate to sign
+     * @param alg Algorithm of the key, the same as of the authority
+     * @param random Source of randomness
+     * @param issuer Key and certificate of the authority
+     * @return Key with its chain of certificates
+     * @throws IOException If fails
+     */
+    static KeyStore.PrivateKeyEntry entry(final X509 template,
+        final Algorithm alg, final SecureRandom random,
+        final KeyStore.PrivateKeyEntry issuer) throws IOException {
+        final KeyPair pair;
+        try {
+            pair = alg.generate(random);
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+        return new KeyStore.PrivateKeyEntry(
+            pair.getPrivate(),
+            new Certificate[] {
+                template.issued(pair.getPublic(), issuer, random),
+                issuer.getCertificate(),
+            }
+        );
+    }
+
+    /**
+     * Load keystore from file.
+     * @param file The file
+     * @param pwd The password
+     * @return Loaded keystore
+     * @throws IOException If fails
+     */
+    static KeyStore load(final File file, final String pwd)
+        throws IOException {
+        try (InputStream input = Files.newInputStream(file.toPath())) {
+            final KeyStore store = KeyStore.getInstance("jks");
+            store.load(input, pwd.toCharArray());
+            return store;
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Save keystore to file.
+     * @param store The keystore
+     * @param file The file
+     * @param pwd The password
+     * @throws IOException If fails
+     */
+    static void save(final KeyStore store, final File file, final String pwd)
+        throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            store.store(bytes, pwd.toCharArray());
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+        Jca.write(file, bytes.toByteArray());
+    }
+
+    /**
+     * Replace the content of the file, by writing a new file next to it
+     * and moving it to its place. The old file, which may be read-only
+     * or a hard link to a cached or shared store, is not changed.
+     * @param file The file
+     * @param bytes New content
+     * @throws IOException If fails
+     */
+    static void write(final File file, final byte[] bytes)
+        throws IOException {
+        final Path dest = file.getAbsoluteFile().toPath();
+        Files.createDirectories(dest.getParent());
+        final Path temp = dest.resolveSibling(
+            String.format("%s.%s.tmp", dest.getFileName(), UUID.randomUUID())
+        );
+        try {
+            Files.write(temp, bytes);
+            try {
+                Files.move(
+                    temp, dest, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE
+                );
+            } catch (final AtomicMoveNotSupportedException ex) {
+                Files.move(temp, dest, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Save the key to a new keystore.
+     * @param entry Key and its certificates
+     * @throws IOException If fails
+     */
+    private void create(final KeyStore.PrivateKeyEntry entry)
+        throws IOException {
+        final File file = new File(this.keystore);
+        try {
+            final KeyStore store = KeyStore.getInstance("jks");
+            store.load(null, null);
+            store.setEntry(
+                Keytool.LOCALHOST,
+                entry,
+                new KeyStore.PasswordProtection(this.password.toCharArray())
+            );
+            Jca.save(store, file, this.password);
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+        Logger.info(
+            this,
+            "Keystore created in '%s' (%s)",
+            this.keystore,
+            FileUtils.byteCountToDisplaySize(file.length())
+        );
+    }
+
+    /**
+     * Describe one entry of the keystore, like {@code keytool -list -v}.
+     * @param text Where to append
+     * @param store The keystore
+     * @param alias The alias of the entry
+     * @throws GeneralSecurityException If fails
+     */
+    private static void describe(final StringBuilder text,
+        final KeyStore store, final String alias)
+        throws GeneralSecurityException {
+        text.append(
+            String.format("Creation date: %s%n", store.getCreationDate(alias))
+        );
+        if (store.isKeyEntry(alias)) {
+            text.append(String.format("Entry type: PrivateKeyEntry%n"));
+        } else {
+            text.append(String.format("Entry type: trustedCertEntry%n"));
+        }
+        final Certificate cert = store.getCertificate(alias);
+        if (cert instanceof X509Certificate) {
+            final X509Certificate xcert = (X509Certificate) cert;
+            text.append(
+                String.format(
+                    "Owner: %s%nIssuer: %s%nSerial number: %x%n",
+                    xcert.getSubjectX500Principal(),
+                    xcert.getIssuerX500Principal(),
+                    xcert.getSerialNumber()
+                )
+            ).append(
+                String.format(
+                    "Valid from: %s until: %s%n",
+                    xcert.getNotBefore(),
+                    xcert.getNotAfter()
+                )
+            );
+        }
+        text.append(
+            String.format(
+                "SHA256: %s%n%n",
+                Hex.encodeHexString(
+                    MessageDigest.getInstance("SHA-256")
+                        .digest(cert.getEncoded())
+                ).toUpperCase(Locale.ENGLISH)
+            )
+        );
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.cert.Certificate;
+import java.util.Collections;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * JKS file, which can be rewritten so that its bytes depend only on its
+ * entries.
+ *
+ * <p>{@link KeyStore#store(java.io.OutputStream, char[])} writes the moment
+ * of creation into each entry and protects private keys with a random
+ * salt, that's why two keystores with the same keys and certificates are
+ * never the same. Here the file is written in the same format, but with
+ * a fixed creation date, aliases in alphabetical order and the salt
+ * derived from the key itself. JKS protection of keys is obfuscation
+ * anyway, a fixed salt doesn't make it any weaker.
+ *
+ * @since 1.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = { "path", "password" })
+final class Jks {
+
+    /**
+     * Creation date of all entries, 2000-01-01T00:00:00Z.
+     */
+    static final long EPOCH = 946_684_800_000L;
+
+    /**
+     * Magic number of JKS files.
+     */
+    private static final int MAGIC = 0xFEEDFEED;
+
+    /**
+     * Version of JKS format.
+     */
+    private static final int VERSION = 2;
+
+    /**
+     * Tag of a private key entry.
+     */
+    private static final int KEY = 1;
+
+    /**
+     * Tag of a trusted certificate entry.
+     */
+    private static final int TRUSTED = 2;
+
+    /**
+     * Text mixed into the integrity digest, by JKS format.
+     */
+    private static final String WHITENER = "Mighty Aphrodite";
+
+    /**
+     * Object identifier of JKS key protection algorithm.
+     */
+    private static final String PROTECTOR = "1.3.6.1.4.1.42.2.17.1.1";
+
+    /**
+     * Length of SHA-1 digest.
+     */
+    private static final int DIGEST = 20;
+
+    /**
+     * Location of the file.
+     */
+    private final transient String path;
+
+    /**
+     * Password of the store and its keys.
+     */
+    private final transient String password;
+
+    /**
+     * Ctor.
+     * @param file The file
+     * @param pwd Password of the store and its keys
+     */
+    Jks(final File file, final String pwd) {
+        this.path = file.getAbsolutePath();
+        this.password = pwd;
+    }
+
+    /**
+     * Rewrite the file, so that its bytes depend only on its entries.
+     * @throws IOException If fails
+     */
+    @Loggable(Loggable.DEBUG)
+    void normalize() throws IOException {
+        final File file = new File(this.path);
+        final KeyStore store = Jca.load(file, this.password);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream data = new DataOutputStream(bytes)) {
+            final List<String> aliases = Collections.list(store.aliases());
+            Collections.sort(aliases);
+            data.writeInt(Jks.MAGIC);
+            data.writeInt(Jks.VERSION);
+            data.writeInt(aliases.size());
+            for (final String alias : aliases) {
+                if (store.isKeyEntry(alias)) {
+                    data.writeInt(Jks.KEY);
+                    data.writeUTF(alias);
+                    data.writeLong(Jks.EPOCH);
+                    final byte[] key = this.protect(
+                        store.getKey(alias, this.password.toCharArray())
+                            .getEncoded()
+                    );
+                    data.writeInt(key.length);
+                    data.write(key);
+                    final Certificate[] chain =
+                        store.getCertificateChain(alias);
+                    data.writeInt(chain.length);
+                    for (final Certificate cert : chain) {
+                        Jks.write(data, cert);
+                    }
+                } else {
+                    data.writeInt(Jks.TRUSTED);
+                    data.writeUTF(alias);
+                    data.writeLong(Jks.EPOCH);
+                    Jks.write(data, store.getCertificate(alias));
+                }
+            }
+            final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(this.secret());
+            digest.update(Jks.WHITENER.getBytes(StandardCharsets.UTF_8));
+            digest.update(bytes.toByteArray());
+            data.write(digest.digest());
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+        Jca.write(file, bytes.toByteArray());
+    }
+
+    /**
+     * Protect private key, the way JKS does it: XOR with a chain of
+     * SHA-1 digests of the password and the salt, followed by
+     * a checksum.
+     * @param plain Encoded private key
+     * @return Encoded {@code EncryptedPrivateKeyInfo}
+     * @throws GeneralSecurityException If fails
+     */
+    private byte[] protect(final byte[] plain)
+        throws GeneralSecurityException {
+        final MessageDigest sha = MessageDigest.getInstance("SHA-1");
+        final byte[] secret = this.secret();
+        sha.update(Jks.PROTECTOR.getBytes(StandardCharsets.US_ASCII));
+        sha.update(plain);
+        final byte[] salt = sha.digest();
+        final byte[] encrypted = new byte[plain.length];
+        byte[] chain = salt;
+        for (int pos = 0; pos < plain.length; pos += Jks.DIGEST) {
+            sha.update(secret);
+            sha.update(chain);
+            chain = sha.digest();
+            for (int idx = 0; idx < Jks.DIGEST && pos + idx < plain.length;
+                ++idx) {
+                encrypted[pos + idx] = (byte) (plain[pos + idx] ^ chain[idx]);
+            }
+        }
+        sha.update(secret);
+        sha.update(plain);
+        final byte[] check = sha.digest();
+        final byte[] content = new byte[
+            salt.length + encrypted.length + check.length
+        ];
+        System.arraycopy(salt, 0, content, 0, salt.length);
+        System.arraycopy(
+            encrypted, 0, content, salt.length, encrypted.length
+        );
+        System.arraycopy(
+            check, 0, content, salt.length + encrypted.length, check.length
+        );
+        return Der.sequence(
+            Der.sequence(Der.oid(Jks.PROTECTOR), Der.nul()),
+            Der.octets(content)
+        );
+    }
+
+    /**
+     * Password as bytes, two per character, the way JKS digests it.
+     * @return Bytes
+     */
+    private byte[] secret() {
+        final byte[] bytes = new byte[this.password.length() * 2];
+        for (int idx = 0; idx < this.password.length(); ++idx) {
+            final char chr = this.password.charAt(idx);
+            bytes[idx * 2] = (byte) (chr >> 8);
+            bytes[idx * 2 + 1] = (byte) chr;
+        }
+        return bytes;
+    }
+
+    /**
+     * Write one certificate.
+     * @param data Where to write
+     * @param cert The certificate
+     * @throws IOException If fails
+     * @throws GeneralSecurityException If fails
+     */
+    private static void write(final DataOutputStream data,
+        final Certificate cert) throws IOException, GeneralSecurityException {
+        final byte[] encoded = cert.getEncoded();
+        data.writeUTF(cert.getType());
+        data.writeInt(encoded.length);
+        data.write(encoded);
+    }
+}
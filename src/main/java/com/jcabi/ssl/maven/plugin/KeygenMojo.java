@@ -7,7 +7,16 @@ package com.jcabi.ssl.maven.plugin;
 import com.jcabi.log.Logger;
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeSet;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
@@ -33,6 +42,12 @@ public final class KeygenMojo extends AbstractMojo {
     @Parameter(defaultValue = "${project}", readonly = true, required = true)
     private transient MavenProject project;
 
+    /**
+     * Maven session.
+     */
+    @Parameter(defaultValue = "${session}", readonly = true)
+    private transient MavenSession session;
+
     /**
      * Shall we skip execution?
      */
@@ -51,6 +66,245 @@ public final class KeygenMojo extends AbstractMojo {
     @Parameter(defaultValue = "${project.build.directory}/cacerts.jks")
     private transient File cacerts;
 
+    /**
+     * Shall we fork {@code keytool} for key generation and cacerts
+     * conversion, instead of doing them inside Maven JVM?
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "false")
+    private transient boolean fork;
+
+    /**
+     * Shall we reuse stores generated before by the previous build,
+     * if its inputs are the same and the certificate is still valid?
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "true")
+    private transient boolean incremental;
+
+    /**
+     * Algorithm of {@code SecureRandom} for key generation, like
+     * {@code NativePRNGNonBlocking} or {@code DRBG}, which don't block
+     * when there is not enough entropy. By default it's the platform's
+     * default one.
+     * @since 1.0
+     */
+    @Parameter
+    private transient String secureRandom;
+
+    /**
+     * Certificates of other hosts, with their own aliases and subject
+     * alternative names, generated in parallel and imported into
+     * the truststore, see {@link Host}.
+     * @since 1.0
+     */
+    @Parameter
+    private transient List<Host> hosts;
+
+    /**
+     * Sign the key by a local certificate authority, which is created
+     * once and reused by all modules and builds, instead of making it
+     * self-signed. Truststores then contain only the certificate of
+     * the authority and are the same in all modules.
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "false")
+    private transient boolean certificateAuthority;
+
+    /**
+     * Keystore of the local certificate authority. By default it's
+     * in {@code cacheDirectory}, shared by all builds on the machine;
+     * set it to a file in the target directory of the root module to
+     * have one authority per reactor.
+     * @since 1.0
+     */
+    @Parameter
+    private transient File authorityKeystore;
+
+    /**
+     * Make keystore and truststore reproducible: the key is generated
+     * from {@link #seed}, the certificate has a fixed serial number and
+     * validity, and the same inputs make byte-identical files. Never use
+     * such keys outside of tests.
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "false")
+    private transient boolean deterministic;
+
+    /**
+     * Seed of the key in deterministic mode.
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "${project.groupId}:${project.artifactId}")
+    private transient String seed;
+
+    /**
+     * Options of JVMs of forked keytool, which by default make them start
+     * faster: C1 compiler only, serial GC, small heap.
+     * @since 1.0
+     */
+    @Parameter(defaultValue = Profile.TUNED)
+    private transient String forkOptions;
+
+    /**
+     * Shall forked keytool JVMs use a class-data sharing archive,
+     * which is created by the first of them in {@code cacheDirectory}?
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "true")
+    private transient boolean classDataSharing;
+
+    /**
+     * Shall we keep generated stores in a machine-wide cache and reuse
+     * them when the inputs are the same?
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "false")
+    private transient boolean cache;
+
+    /**
+     * Shall we put into the truststore only the generated certificate
+     * and JDK certificates listed in {@code trustedAliases}, instead of
+     * all JDK cacerts?
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "false")
+    private transient boolean minimalTruststore;
+
+    /**
+     * Regular expressions of aliases of JDK cacerts to keep in the minimal
+     * truststore, like {@code digicert.*}.
+     * @since 1.0
+     */
+    @Parameter
+    private transient List<String> trustedAliases;
+
+    /**
+     * Algorithm of the key: {@code RSA}, {@code EC} or {@code Ed25519}.
+     * Elliptic curve keys are generated much faster than RSA ones.
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "RSA")
+    private transient String keyAlgorithm;
+
+    /**
+     * Size of the key in bits: 2048 by default for {@code RSA};
+     * 256 (P-256 curve, default), 384 or 521 for {@code EC};
+     * ignored for {@code Ed25519}.
+     * @since 1.0
+     */
+    @Parameter
+    private transient int keySize;
+
+    /**
+     * Signature algorithm of the certificate, like
+     * {@code SHA384withECDSA}, by default it's derived from the
+     * key algorithm and size.
+     * @since 1.0
+     */
+    @Parameter
+    private transient String signatureAlgorithm;
+
+    /**
+     * Directory of the machine-wide cache.
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "${user.home}/.m2/jcabi-ssl")
+    private transient File cacheDirectory;
+
+    /**
+     * Maximum number of entries in the machine-wide cache, the least
+     * recently used ones are deleted first.
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "16")
+    private transient int cacheSize;
+
+    /**
+     * Shall stores be hard-linked from the machine-wide cache and from
+     * the module that generated them in the reactor, instead of being
+     * copied? A read-only copy is made where a link is not possible.
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "false")
+    private transient boolean links;
+
+    /**
+     * Shall the key and the certificates also be exported as PKCS12,
+     * PEM and PKCS#8 files, for services that don't read JKS? Their
+     * locations are published as {@code jcabi.ssl.pkcs12},
+     * {@code jcabi.ssl.certificate}, {@code jcabi.ssl.privateKey}
+     * and {@code jcabi.ssl.caBundle} properties.
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "false")
+    private transient boolean export;
+
+    /**
+     * Shall we generate stores only once per reactor and share them with
+     * all modules that use the same keystore password?
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "false")
+    private transient boolean aggregate;
+
+    /**
+     * Shall we set {@code javax.net.ssl.*} system properties of Maven JVM,
+     * for consumers inside it, like {@code jetty:run} or
+     * {@code exec:java}? They are set once per configuration in the
+     * session; modules with different configurations, built in parallel
+     * with {@code -T}, can't share one JVM-wide keystore, so the last one
+     * wins there.
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "true")
+    private transient boolean systemProperties;
+
+    /**
+     * Shall we add {@code -Djavax.net.ssl.*} options with the stores
+     * to {@code argLine} property, which Surefire and Failsafe pass to
+     * forked JVMs? Options already there are kept.
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "false")
+    private transient boolean injectArgLine;
+
+    /**
+     * Name of the property with options of forked test JVMs.
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "argLine")
+    private transient String argLineProperty;
+
+    /**
+     * Size of the cache of TLS sessions in forked test JVMs, added to
+     * {@code argLine} as {@code javax.net.ssl.sessionCacheSize}; zero
+     * keeps the default of JDK.
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "0")
+    private transient int sessionCacheSize;
+
+    /**
+     * Shall we defer generation of stores when no tests will run, because
+     * the build doesn't reach {@code test} phase or tests are skipped by
+     * {@code skipTests}, {@code maven.test.skip} or {@code skipITs}?
+     * Properties are published anyway, with final locations, and
+     * {@code start} and {@code bench} goals generate stores if they need
+     * them.
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "false")
+    private transient boolean lazy;
+
+    /**
+     * Where to save the JSON report about the execution: time, forks,
+     * and bytes written by each step, and cache hits.
+     * @since 1.0
+     */
+    @Parameter(defaultValue = "${project.build.directory}/jcabi-ssl.json")
+    private transient File report;
+
     /**
      * Keystore instance.
      */
@@ -65,16 +319,13 @@ public final class KeygenMojo extends AbstractMojo {
      * Creates KeygenMojo.
      */
     public KeygenMojo() {
-        this(
-            null, new Keystore(DigestUtils.md5Hex(KeygenMojo.class.getName())),
-            null
-        );
+        this(null, null, null);
     }
 
     /**
      * Creates KeygenMojo using custom KeystoreFactory.
      * @param prj Maven project
-     * @param str Keystore instance
+     * @param str Keystore instance, or NULL to create it on execution
      * @param crt Cacerts instance
      */
     public KeygenMojo(final MavenProject prj, final Keystore str,
@@ -100,19 +351,510 @@ public final class KeygenMojo extends AbstractMojo {
             Logger.info(this, "execution skipped because of 'skip' option");
             return;
         }
-        try {
-            if (this.truststore == null) {
-                this.truststore = new Cacerts(this.cacerts);
+        if (this.store == null) {
+            this.store = new Keystore(
+                DigestUtils.md5Hex(KeygenMojo.class.getName()),
+                this.fork,
+                new Algorithm(
+                    this.keyAlgorithm, this.keySize, this.signatureAlgorithm
+                )
+            ).with(this.profile()).with(this.entropy());
+            if (this.certificateAuthority) {
+                this.store = this.store.issuedBy(this.authority());
             }
-            if (!this.store.isActive()) {
-                this.store.activate(this.keystore);
-                this.truststore.imprt();
+        }
+        if (this.truststore == null) {
+            if (this.minimalTruststore) {
+                this.truststore = this.minimal();
+            } else {
+                this.truststore = new Cacerts(this.cacerts, this.fork);
+            }
+            this.truststore = this.truststore.with(this.profile());
+        }
+        if (this.keystore == null && this.store.isActive()) {
+            this.keystore = new File(System.getProperty(Keystore.KEY));
+        }
+        try {
+            if (this.lazy && !this.demand().exists()) {
+                this.defer();
+            } else {
+                this.run();
             }
         } catch (final IOException ex) {
             throw new IllegalStateException(ex);
         }
-        this.store.populate(this.project.getProperties());
-        this.truststore.populate(this.project.getProperties());
-        Logger.info(this, "Keystore is active: %s", this.store);
+    }
+
+    /**
+     * Set Maven session.
+     * @param ssn Maven session
+     */
+    public void setSession(final MavenSession ssn) {
+        this.session = ssn;
+    }
+
+    /**
+     * Set aggregate option.
+     * @param agg Shall stores be generated once per reactor?
+     */
+    public void setAggregate(final boolean agg) {
+        this.aggregate = agg;
+    }
+
+    /**
+     * Set hosts.
+     * @param all Other hosts, which need their own certificates
+     */
+    public void setHosts(final List<Host> all) {
+        this.hosts = all;
+    }
+
+    /**
+     * Set keystore location.
+     * @param file Location of keystore.jks
+     */
+    public void setKeystore(final File file) {
+        this.keystore = file;
+    }
+
+    /**
+     * Set export option.
+     * @param exp Shall stores be exported in other formats?
+     */
+    public void setExport(final boolean exp) {
+        this.export = exp;
+    }
+
+    /**
+     * Activate stores and publish their properties.
+     * @throws IOException If fails
+     */
+    private void run() throws IOException {
+        final Report rep = new Report();
+        final Properties props = new Properties();
+        if (this.aggregate) {
+            final Properties shared = Registry.of(this.session).activate(
+                Arrays.asList(
+                    this.store,
+                    this.store.batch(this.others()).fingerprint().toString(),
+                    this.truststore.anchors(),
+                    KeygenMojo.class
+                ),
+                () -> this.jvm(this.activate(rep))
+            );
+            rep.measure(
+                "replicate", () -> props.putAll(this.replicate(shared))
+            );
+        } else {
+            props.putAll(
+                Registry.of(this.session).activate(
+                    Arrays.asList(this.store, this.keystore, this.truststore),
+                    () -> this.jvm(this.activate(rep))
+                )
+            );
+        }
+        if (this.export) {
+            rep.measure(
+                "export",
+                () -> new Export(
+                    new File(props.getProperty(Keystore.KEY)),
+                    props.getProperty(Keystore.KEY_PWD),
+                    new File(props.getProperty(Cacerts.TRUST))
+                ).write(props)
+            );
+        }
+        rep.measure("properties", () -> this.publish(props));
+        if (this.injectArgLine) {
+            rep.measure("argLine", () -> this.inject(props));
+        }
+        Logger.info(
+            this, "Keystore is active: %s", props.getProperty(Keystore.KEY)
+        );
+        if (this.report != null) {
+            rep.save(this.report);
+        }
+    }
+
+    /**
+     * Publish properties with final locations of stores, without
+     * generating them, and keep the generation in the project, for
+     * the goal that needs the stores.
+     */
+    private void defer() {
+        final Properties props = new Properties();
+        this.store.populate(props, this.keystore);
+        this.truststore.populate(props);
+        this.store.batch(this.others()).populate(props, this.keystore);
+        if (this.export) {
+            new Export(
+                this.keystore, props.getProperty(Keystore.KEY_PWD),
+                this.truststore.file()
+            ).populate(props);
+        }
+        this.publish(props);
+        if (this.injectArgLine) {
+            this.inject(props);
+        }
+        this.project.setContextValue(
+            Demand.class.getName(), (Parallel.Step) this::run
+        );
+        Logger.info(
+            this, "No tests will run, generation of '%s' is deferred",
+            this.keystore
+        );
+    }
+
+    /**
+     * Demand for stores in this build.
+     * @return The demand
+     */
+    private Demand demand() {
+        final Properties props = new Properties();
+        props.putAll(this.project.getProperties());
+        final List<String> goals;
+        if (this.session == null) {
+            goals = Collections.emptyList();
+        } else {
+            props.putAll(this.session.getSystemProperties());
+            props.putAll(this.session.getUserProperties());
+            goals = this.session.getGoals();
+        }
+        return new Demand(goals, props);
+    }
+
+    /**
+     * Publish properties in the Maven project.
+     * @param props Properties to publish
+     */
+    private void publish(final Properties props) {
+        for (final String name : new TreeSet<>(props.stringPropertyNames())) {
+            this.project.getProperties().put(name, props.getProperty(name));
+            Logger.info(
+                this,
+                "Maven property ${%s} set to '%s'",
+                name,
+                props.getProperty(name)
+            );
+        }
+    }
+
+    /**
+     * Add options with the stores to options of forked test JVMs.
+     * @param props Properties of the stores
+     */
+    private void inject(final Properties props) {
+        Logger.info(
+            this,
+            "Maven property ${%s} set to '%s'",
+            this.argLineProperty,
+            new ArgLine(this.argLineProperty, this.sessionCacheSize).inject(
+                this.project.getProperties(), props
+            )
+        );
+    }
+
+    /**
+     * Activate the stores of this module in Maven JVM, if required.
+     * @param props Properties of the stores
+     * @return The same properties
+     */
+    private Properties jvm(final Properties props) {
+        if (this.systemProperties) {
+            this.store.reuse(this.keystore);
+            this.truststore.reuse();
+        }
+        return props;
+    }
+
+    /**
+     * Reuse keystore and truststore of the previous build, if they are
+     * up to date, or generate them, or take them from the cache.
+     * @param rep Report to fill
+     * @return Properties to publish
+     * @throws IOException If fails
+     */
+    private Properties activate(final Report rep) throws IOException {
+        final String local = new Fingerprint(
+            this.store.fingerprint().toString(),
+            this.truststore.anchors()
+        ).toString();
+        final Fingerprint key = new Fingerprint(
+            Fingerprint.digest(Cacerts.jdk()), local
+        );
+        final Fingerprint inputs = new Fingerprint(
+            local,
+            this.keystore.getAbsolutePath(),
+            this.truststore.file().getAbsolutePath(),
+            this.others().toString()
+        );
+        final Batch batch = this.store.batch(this.others());
+        final File stamp = KeygenMojo.stamp(this.keystore);
+        final File anchors = KeygenMojo.stamp(this.truststore.file());
+        final boolean valid = this.incremental && inputs.recorded(stamp)
+            && this.store.valid(this.keystore, this.truststore)
+            && batch.valid(this.keystore);
+        if (valid && key.recorded(anchors)) {
+            Logger.info(
+                this,
+                "Keystore '%s' and truststore '%s' are up to date",
+                this.keystore,
+                this.truststore.file()
+            );
+        } else if (valid) {
+            Logger.info(
+                this,
+                "JDK cacerts changed, truststore '%s' will be refreshed",
+                this.truststore.file()
+            );
+            anchors.delete();
+            rep.measure(
+                "cacerts", this.truststore.file(),
+                () -> this.truststore.refresh(this.locals())
+            );
+            if (this.deterministic) {
+                rep.measure(
+                    "normalize",
+                    () -> this.store.normalize(this.keystore, this.truststore)
+                );
+            }
+            key.record(anchors);
+        } else {
+            stamp.delete();
+            anchors.delete();
+            this.refresh(rep, key.toString());
+            if (!this.others().isEmpty()) {
+                rep.measure(
+                    "hosts",
+                    () -> batch.generate(this.keystore, this.truststore)
+                );
+            }
+            inputs.record(stamp);
+            key.record(anchors);
+        }
+        final Properties props = new Properties();
+        this.store.populate(props, this.keystore);
+        this.truststore.populate(props);
+        batch.populate(props, this.keystore);
+        return props;
+    }
+
+    /**
+     * Generate keystore and truststore, or take them from the cache.
+     * @param rep Report to fill
+     * @param key Fingerprint of the inputs, the key in the cache
+     * @throws IOException If fails
+     */
+    private void refresh(final Report rep, final String key)
+        throws IOException {
+        if (this.cache) {
+            final Cache storage = new Cache(
+                this.cacheDirectory, this.cacheSize, this.links
+            );
+            final boolean hit = storage.fetch(
+                key, this.keystore, this.cacerts, this.store
+            );
+            if (hit) {
+                rep.hit();
+            } else {
+                this.generate(rep);
+                rep.measure(
+                    "cache",
+                    () -> storage.store(key, this.keystore, this.cacerts)
+                );
+            }
+        } else {
+            this.generate(rep);
+        }
+    }
+
+    /**
+     * Generate keystore and truststore, running independent steps
+     * in parallel.
+     * @param rep Report to fill
+     * @throws IOException If fails
+     */
+    private void generate(final Report rep) throws IOException {
+        final File trust = this.truststore.file();
+        new Parallel(
+            () -> {
+                rep.measure("entropy", this.store::seed);
+                rep.measure(
+                    "genkey", this.keystore,
+                    () -> this.store.generate(this.keystore)
+                );
+                rep.measure("list", () -> this.store.list(this.keystore));
+            },
+            () -> rep.measure("cacerts", trust, this.truststore::copy)
+        ).run();
+        rep.measure(
+            "import", trust,
+            () -> this.store.imprt(this.keystore, this.truststore)
+        );
+        if (this.deterministic) {
+            rep.measure(
+                "normalize",
+                () -> this.store.normalize(this.keystore, this.truststore)
+            );
+        }
+    }
+
+    /**
+     * Profile of forked keytool JVMs.
+     * @return The profile
+     */
+    private Profile profile() {
+        final File dir;
+        if (this.classDataSharing) {
+            dir = this.cacheDirectory;
+        } else {
+            dir = null;
+        }
+        return new Profile(
+            String.join(
+                " ",
+                Objects.toString(this.forkOptions, ""),
+                new Entropy(this.secureRandom).options()
+            ),
+            dir
+        );
+    }
+
+    /**
+     * Source of randomness for key generation.
+     * @return The source
+     */
+    private Entropy entropy() {
+        final Entropy entropy;
+        if (this.deterministic) {
+            entropy = Entropy.seeded(this.seed);
+        } else {
+            entropy = new Entropy(this.secureRandom);
+        }
+        return entropy;
+    }
+
+    /**
+     * Location of the keystore of the local certificate authority.
+     * @return The file
+     */
+    private File authority() {
+        final File file;
+        if (this.authorityKeystore == null) {
+            file = new File(
+                this.cacheDirectory,
+                String.format(
+                    "ca-%s.jks",
+                    new Fingerprint(
+                        new Algorithm(
+                            this.keyAlgorithm, this.keySize,
+                            this.signatureAlgorithm
+                        ).toString(),
+                        this.entropy().source()
+                    ).toString().substring(0, 16)
+                )
+            );
+        } else {
+            file = this.authorityKeystore;
+        }
+        return file;
+    }
+
+    /**
+     * Aliases of certificates in the truststore, which don't come from
+     * JDK cacerts.
+     * @return Aliases
+     */
+    private Collection<String> locals() {
+        final Collection<String> list = new LinkedList<>();
+        list.add(Keytool.LOCALHOST);
+        list.add(Authority.ALIAS);
+        for (final Host host : this.others()) {
+            list.add(host.alias());
+        }
+        return list;
+    }
+
+    /**
+     * File, next to the store, where the fingerprint of its inputs
+     * is recorded.
+     * @param file The store
+     * @return The file with the fingerprint
+     */
+    private static File stamp(final File file) {
+        return new File(
+            file.getParentFile(),
+            String.format("%s.sha256", file.getName())
+        );
+    }
+
+    /**
+     * Other hosts, which need their own certificates.
+     * @return Hosts, maybe empty
+     */
+    private List<Host> others() {
+        final List<Host> list;
+        if (this.hosts == null) {
+            list = Collections.emptyList();
+        } else {
+            list = this.hosts;
+        }
+        return list;
+    }
+
+    /**
+     * Minimal truststore, with JDK certificates of trusted aliases only.
+     * @return The truststore
+     * @throws MojoFailureException If aliases are configured, but empty
+     */
+    private Cacerts minimal() throws MojoFailureException {
+        final Cacerts trust;
+        if (this.trustedAliases == null) {
+            trust = Cacerts.minimal(this.cacerts, this.fork);
+        } else {
+            try {
+                trust = Cacerts.minimal(
+                    this.cacerts, this.fork, this.trustedAliases
+                );
+            } catch (final IllegalArgumentException ex) {
+                throw new MojoFailureException(
+                    String.format(
+                        "%s, %s, %s", ex.getMessage(),
+                        "list regular expressions in <trustedAliases>",
+                        "or remove it to keep only the generated certificate"
+                    ),
+                    ex
+                );
+            }
+        }
+        return trust;
+    }
+
+    /**
+     * Make stores of this module, including separate keystores of hosts,
+     * replicas of the stores generated by another module in the reactor.
+     * @param shared Properties of the stores generated before
+     * @return Properties of the stores of this module
+     * @throws IOException If fails
+     */
+    private Properties replicate(final Properties shared) throws IOException {
+        final Properties props = new Properties();
+        this.store.populate(props, this.keystore);
+        this.truststore.populate(props);
+        final Properties hosts = new Properties();
+        this.store.batch(this.others()).populate(hosts, this.keystore);
+        props.putAll(hosts);
+        final Collection<String> names = new LinkedList<>(
+            hosts.stringPropertyNames()
+        );
+        names.add(Keystore.KEY);
+        names.add(Cacerts.TRUST);
+        for (final String name : names) {
+            new Link(
+                new File(shared.getProperty(name)),
+                new File(props.getProperty(name)),
+                this.links
+            ).make();
+        }
+        return props;
     }
 }
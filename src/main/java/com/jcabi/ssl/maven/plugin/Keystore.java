@@ -6,9 +6,9 @@ package com.jcabi.ssl.maven.plugin;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
-import com.jcabi.log.Logger;
 import java.io.File;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.Properties;
 import javax.validation.constraints.NotNull;
 import lombok.EqualsAndHashCode;
@@ -18,7 +18,7 @@ import lombok.EqualsAndHashCode;
  * @since 0.5
  */
 @Immutable
-@EqualsAndHashCode(of = "password")
+@EqualsAndHashCode(of = { "password", "algorithm", "entropy", "authority" })
 final class Keystore {
 
     /**
@@ -31,37 +31,133 @@ final class Keystore {
      */
     static final String KEY_PWD = "javax.net.ssl.keyStorePassword";
 
+    /**
+     * How many days the certificate must stay valid to be reused.
+     */
+    private static final long MARGIN = 7L;
+
     /**
      * Unique password of it.
      */
     private final transient String password;
 
+    /**
+     * Shall we fork keytool instead of generating keys in-process?
+     */
+    private final transient boolean fork;
+
+    /**
+     * Algorithm of the key.
+     */
+    private final transient Algorithm algorithm;
+
+    /**
+     * Profile of forked keytool JVM.
+     */
+    private final transient Profile profile;
+
+    /**
+     * Source of randomness, for in-process generation.
+     */
+    private final transient Entropy entropy;
+
+    /**
+     * Location of the keystore of the local certificate authority, which
+     * signs the key, or empty if the key is self-signed.
+     */
+    private final transient String authority;
+
     /**
      * Ctor.
      * @param pwd The password
      */
     Keystore(@NotNull final String pwd) {
+        this(pwd, false);
+    }
+
+    /**
+     * Ctor, with RSA-2048 key.
+     * @param pwd The password
+     * @param frk Fork keytool instead of generating keys in-process
+     */
+    Keystore(@NotNull final String pwd, final boolean frk) {
+        this(pwd, frk, new Algorithm());
+    }
+
+    /**
+     * Ctor.
+     * @param pwd The password
+     * @param frk Fork keytool instead of generating keys in-process
+     * @param alg Algorithm of the key
+     */
+    Keystore(@NotNull final String pwd, final boolean frk,
+        @NotNull final Algorithm alg) {
+        this(pwd, frk, alg, new Profile(), new Entropy(), "");
+    }
+
+    /**
+     * Ctor.
+     * @param pwd The password
+     * @param frk Fork keytool instead of generating keys in-process
+     * @param alg Algorithm of the key
+     * @param prof Profile of forked keytool JVM
+     * @param rnd Source of randomness
+     * @param auth Keystore of the authority, or empty
+     */
+    private Keystore(final String pwd, final boolean frk,
+        final Algorithm alg, final Profile prof, final Entropy rnd,
+        final String auth) {
         this.password = pwd;
+        this.fork = frk;
+        this.algorithm = alg;
+        this.profile = prof;
+        this.entropy = rnd;
+        this.authority = auth;
+    }
+
+    /**
+     * The same keystore, with another profile of forked keytool.
+     * @param prof Profile of forked keytool JVM
+     * @return New keystore
+     */
+    Keystore with(final Profile prof) {
+        return new Keystore(
+            this.password, this.fork, this.algorithm, prof, this.entropy,
+            this.authority
+        );
+    }
+
+    /**
+     * The same keystore, with another source of randomness.
+     * @param rnd Source of randomness
+     * @return New keystore
+     */
+    Keystore with(final Entropy rnd) {
+        return new Keystore(
+            this.password, this.fork, this.algorithm, this.profile, rnd,
+            this.authority
+        );
+    }
+
+    /**
+     * The same keystore, with the key signed by the local certificate
+     * authority, instead of a self-signed one.
+     * @param file Keystore of the authority, which is created if absent
+     * @return New keystore
+     */
+    Keystore issuedBy(final File file) {
+        return new Keystore(
+            this.password, this.fork, this.algorithm, this.profile,
+            this.entropy, file.getAbsolutePath()
+        );
     }
 
     @Override
     public String toString() {
-        final String[] names = {Keystore.KEY, Keystore.KEY_PWD};
-        final StringBuilder text = new StringBuilder();
-        text.append('[');
-        for (final String name : names) {
-            if (text.length() > 1) {
-                text.append(", ");
-            }
-            text.append(name).append('=');
-            if (name == null) {
-                text.append("NULL");
-            } else {
-                text.append(System.getProperty(name));
-            }
-        }
-        text.append(']');
-        return text.toString();
+        return String.format(
+            "[%s=%s, algorithm=%s]",
+            Keystore.KEY_PWD, this.password, this.algorithm
+        );
     }
 
     /**
@@ -81,32 +177,217 @@ final class Keystore {
      */
     @Loggable(Loggable.DEBUG)
     void activate(final File file) throws IOException {
-        file.getParentFile().mkdirs();
-        file.delete();
-        new Keytool(file, this.password).genkey();
+        this.generate(file);
+        this.reuse(file);
+        this.list(file);
+    }
+
+    /**
+     * Activate it in the JVM, in the given file, which was generated before.
+     * @param file The file with the keystore
+     */
+    @Loggable(Loggable.DEBUG)
+    void reuse(final File file) {
         System.setProperty(Keystore.KEY, file.getAbsolutePath());
         System.setProperty(Keystore.KEY_PWD, this.password);
-        new Keytool(file, this.password).list();
+    }
+
+    /**
+     * Generate it in the given file.
+     * @param file The file to use
+     * @throws IOException If fails
+     */
+    @Loggable(Loggable.DEBUG)
+    void generate(final File file) throws IOException {
+        file.getParentFile().mkdirs();
+        file.delete();
+        if (!this.authority.isEmpty()) {
+            new Jca(file, this.password).issue(
+                this.algorithm, this.entropy.random(), this.start(),
+                this.issuer().entry()
+            );
+        } else if (this.entropy.deterministic()) {
+            new Jca(file, this.password).genkey(
+                this.algorithm, this.entropy.random(), Jks.EPOCH
+            );
+        } else if (this.fork) {
+            new Keytool(file, this.password, this.profile).genkey(
+                this.algorithm
+            );
+        } else {
+            new Jca(file, this.password).genkey(
+                this.algorithm, this.entropy.random()
+            );
+        }
+    }
+
+    /**
+     * Make sure the source of randomness is seeded, before generation,
+     * to know how long it waits for entropy. Does nothing if keytool is
+     * forked, since it has its own source.
+     * @throws IOException If fails
+     */
+    void seed() throws IOException {
+        if (!this.fork || this.entropy.deterministic()) {
+            this.entropy.seed();
+        }
+    }
+
+    /**
+     * List content of it.
+     * @param file The file with the keystore
+     * @return The content
+     * @throws IOException If fails
+     */
+    @Loggable(Loggable.DEBUG)
+    String list(final File file) throws IOException {
+        final String text;
+        if (this.fork) {
+            text = new Keytool(file, this.password, this.profile).list();
+        } else {
+            text = new Jca(file, this.password).list();
+        }
+        return text;
+    }
+
+    /**
+     * Can this keystore, generated before in the given file, and
+     * the truststore made from it, be reused as they are? The check is
+     * done in-process, even in fork mode.
+     * @param file The file with the keystore
+     * @param truststore The truststore
+     * @return TRUE if both are still valid
+     */
+    @Loggable(Loggable.DEBUG)
+    boolean valid(final File file, final Cacerts truststore) {
+        final Jca jca = new Jca(file, this.password);
+        boolean valid = jca.valid(Keystore.MARGIN);
+        if (valid) {
+            try {
+                valid = new Jca(truststore.file(), Cacerts.STD_PWD)
+                    .trusts(jca.anchor());
+            } catch (final IOException ex) {
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Fingerprint of everything that affects the content of this keystore
+     * and of the truststore made from it, except JDK cacerts.
+     * @return The fingerprint
+     * @throws IOException If fails
+     */
+    Fingerprint fingerprint() throws IOException {
+        return new Fingerprint(
+            this.algorithm.toString(),
+            this.entropy.source(),
+            this.anchor(),
+            Keytool.LOCALHOST,
+            this.password,
+            "jks"
+        );
+    }
+
+    /**
+     * Rewrite keystore and truststore, if the key is deterministic, so
+     * that their bytes are the same every time they are made.
+     * @param file The file with the keystore
+     * @param truststore The truststore
+     * @throws IOException If fails
+     */
+    void normalize(final File file, final Cacerts truststore)
+        throws IOException {
+        if (this.entropy.deterministic()) {
+            new Jks(file, this.password).normalize();
+            new Jks(truststore.file(), Cacerts.STD_PWD).normalize();
+        }
+    }
+
+    /**
+     * Certificates of the hosts, with the same algorithm, randomness and
+     * password as this keystore.
+     * @param hosts The hosts
+     * @return Batch of them
+     */
+    Batch batch(final Collection<Host> hosts) {
+        final Authority ca;
+        if (this.authority.isEmpty()) {
+            ca = null;
+        } else {
+            ca = this.issuer();
+        }
+        return new Batch(
+            hosts, this.algorithm, this.entropy, this.password, ca
+        );
+    }
+
+    /**
+     * Import this keystore, from the given file, into the truststore,
+     * or only the certificate of the authority, if it signed the key.
+     * @param file The file with the keystore
+     * @param truststore The truststore
+     * @throws IOException If fails
+     */
+    @Loggable(Loggable.DEBUG)
+    void imprt(final File file, final Cacerts truststore) throws IOException {
+        if (this.authority.isEmpty()) {
+            truststore.imprt(file, this.password);
+        } else {
+            truststore.trust(Authority.ALIAS, this.issuer().certificate());
+        }
     }
 
     /**
      * Populate given properties with this keystore's path and password.
      * @param props The properties
+     * @param file The file with the keystore
      */
     @Loggable(Loggable.DEBUG)
-    void populate(final Properties props) {
-        final String[] names = {Keystore.KEY, Keystore.KEY_PWD};
-        for (final String name : names) {
-            if (System.getProperty(name) == null) {
-                continue;
-            }
-            props.put(name, System.getProperty(name));
-            Logger.info(
-                this,
-                "Maven property ${%s} set to '%s'",
-                name,
-                System.getProperty(name)
-            );
+    void populate(final Properties props, final File file) {
+        props.put(Keystore.KEY, file.getAbsolutePath());
+        props.put(Keystore.KEY_PWD, this.password);
+    }
+
+    /**
+     * The local certificate authority.
+     * @return The authority
+     */
+    private Authority issuer() {
+        return new Authority(
+            new File(this.authority), this.password, this.algorithm,
+            this.entropy
+        );
+    }
+
+    /**
+     * Fingerprint of the authority, which changes when it's re-created.
+     * @return Text, empty if the key is self-signed
+     * @throws IOException If fails
+     */
+    private String anchor() throws IOException {
+        final String text;
+        if (this.authority.isEmpty()) {
+            text = "";
+        } else {
+            this.issuer().entry();
+            text = Fingerprint.digest(new File(this.authority));
+        }
+        return text;
+    }
+
+    /**
+     * Beginning of validity of the certificate.
+     * @return Milliseconds since epoch, or zero to start it now
+     */
+    private long start() {
+        final long from;
+        if (this.entropy.deterministic()) {
+            from = Jks.EPOCH;
+        } else {
+            from = 0L;
         }
+        return from;
     }
 }
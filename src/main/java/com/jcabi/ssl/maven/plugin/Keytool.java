@@ -14,6 +14,7 @@ import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import java.util.logging.Level;
@@ -27,13 +28,13 @@ import org.apache.commons.io.FileUtils;
  */
 @Immutable
 @ToString
-@EqualsAndHashCode(of = { "keystore", "password" })
+@EqualsAndHashCode(of = { "keystore", "password", "profile" })
 final class Keytool {
 
     /**
-     * Localhost, input to the keytool.
+     * Localhost, input to the keytool and the alias of the key.
      */
-    private static final String LOCALHOST = "localhost";
+    static final String LOCALHOST = "localhost";
 
     /**
      * Platform-dependent line separator.
@@ -50,23 +51,41 @@ final class Keytool {
      */
     private final transient String password;
 
+    /**
+     * Profile of forked JVM.
+     */
+    private final transient Profile profile;
+
     /**
      * Ctor.
      * @param store The location of keystore
      * @param pwd The password
      */
     Keytool(final File store, final String pwd) {
-        this(store.getAbsolutePath(), pwd);
+        this(store, pwd, new Profile());
+    }
+
+    /**
+     * Ctor.
+     * @param store The location of keystore
+     * @param pwd The password
+     * @param prof Profile of JVM, if keytool is forked
+     */
+    Keytool(final File store, final String pwd, final Profile prof) {
+        this(store.getAbsolutePath(), pwd, prof);
     }
 
     /**
      * Ctor.
      * @param store The absolute path of keystore
      * @param pwd The password
+     * @param prof Profile of JVM, if keytool is forked
      */
-    private Keytool(final String store, final String pwd) {
+    private Keytool(final String store, final String pwd,
+        final Profile prof) {
         this.keystore = store;
         this.password = pwd;
+        this.profile = prof;
     }
 
     /**
@@ -76,38 +95,103 @@ final class Keytool {
      */
     @Loggable(Loggable.DEBUG)
     String list() throws IOException {
-        final List<String> cmds = new ArrayList<>(10);
-        cmds.add(Keytool.keytool());
-        cmds.add("-list");
-        cmds.add("-v");
-        cmds.add("-keystore");
-        cmds.add(this.keystore);
-        cmds.add("-storepass");
-        cmds.add(this.password);
-        return new VerboseProcess(
-            Keytool.utf(new ProcessBuilder(cmds)), Level.FINE, Level.FINE
+        return new Launch(
+            this.profile,
+            "-list",
+            "-v",
+            "-keystore",
+            this.keystore,
+            "-storepass",
+            this.password
         ).stdout();
     }
 
+    /**
+     * Generate RSA-2048 key.
+     * @throws IOException If fails
+     */
+    void genkey() throws IOException {
+        this.genkey(new Algorithm());
+    }
+
     /**
      * Generate key.
+     *
+     * <p>Inside the JVM the distinguished name is given in {@code -dname},
+     * while forked keytool gets it from stdin, answering its prompts.
+     *
+     * @param alg Algorithm of the key and its certificate
      * @throws IOException If fails
      */
     @Loggable(Loggable.DEBUG)
-    void genkey() throws IOException {
-        final Process proc = Keytool.utf(
-            this.proc(
-                "-genkeypair",
-                "-alias",
-                Keytool.LOCALHOST,
-                "-keyalg",
-                "RSA",
-                "-keysize",
-                "2048",
-                "-keypass",
-                this.password
-            )
-        ).start();
+    void genkey(final Algorithm alg) throws IOException {
+        final List<String> args = new ArrayList<>(20);
+        args.add("-genkeypair");
+        args.add("-alias");
+        args.add(Keytool.LOCALHOST);
+        args.addAll(alg.arguments());
+        args.add("-keypass");
+        args.add(this.password);
+        args.addAll(this.store());
+        final Profile prof;
+        if (alg.heavy()) {
+            prof = this.profile.without("-XX:TieredStopAtLevel");
+        } else {
+            prof = this.profile;
+        }
+        Keytool.prompted(prof, args);
+        Logger.info(
+            this,
+            "Keystore created in '%s' (%s)",
+            this.keystore,
+            FileUtils.byteCountToDisplaySize(new File(this.keystore).length())
+        );
+    }
+
+    /**
+     * Import certificate into this store.
+     * @param file The file to import
+     * @param pwd The password there
+     * @throws IOException If fails
+     */
+    @Loggable(Loggable.DEBUG)
+    void imprt(final File file, final String pwd) throws IOException {
+        new Launch(
+            this.profile,
+            "-importkeystore",
+            "-srckeystore",
+            file.getAbsolutePath(),
+            "-srcstorepass",
+            pwd,
+            "-srcalias",
+            Keytool.LOCALHOST,
+            "-srckeypass",
+            pwd,
+            "-srcstoretype",
+            "jks",
+            "-destkeystore",
+            this.keystore,
+            "-deststorepass",
+            this.password,
+            "-destkeypass",
+            this.password,
+            "-deststoretype",
+            "jks",
+            "-noprompt"
+        ).stdout();
+    }
+
+    /**
+     * Fork keytool and answer its prompts about the distinguished name.
+     * @param prof Profile of the forked JVM
+     * @param args Command line arguments
+     * @throws IOException If fails
+     */
+    static void prompted(final Profile prof, final List<String> args)
+        throws IOException {
+        final File scratch = prof.scratch();
+        Report.forked();
+        final Process proc = Launch.builder(prof, scratch, args).start();
         try (
             PrintWriter writer = new PrintWriter(
                 new OutputStreamWriter(
@@ -123,48 +207,30 @@ final class Keytool {
             writer.print(Keytool.appendNewLine("US"));
             writer.print(Keytool.appendNewLine(Keytool.localeDependentYes()));
         }
-        new VerboseProcess(proc, Level.FINE, Level.FINE).stdout();
-        Logger.info(
-            this,
-            "Keystore created in '%s' (%s)",
-            this.keystore,
-            FileUtils.byteCountToDisplaySize(this.keystore.length())
-        );
+        try {
+            new VerboseProcess(proc, Level.FINE, Level.FINE).stdout();
+        } catch (final IllegalArgumentException ex) {
+            throw new IOException(
+                String.format("keytool %s failed", args.get(0)), ex
+            );
+        }
+        prof.settle(scratch);
     }
 
     /**
-     * Import certificate into this store.
-     * @param file The file to import
-     * @param pwd The password there
-     * @throws IOException If fails
+     * Arguments that point keytool to this keystore.
+     * @return Arguments
      */
-    @Loggable(Loggable.DEBUG)
-    void imprt(final File file, final String pwd) throws IOException {
-        final List<String> cmds = new ArrayList<>(20);
-        cmds.add(Keytool.keytool());
-        cmds.add("-importkeystore");
-        cmds.add("-srckeystore");
-        cmds.add(file.getAbsolutePath());
-        cmds.add("-srcstorepass");
-        cmds.add(pwd);
-        cmds.add("-srcalias");
-        cmds.add(Keytool.LOCALHOST);
-        cmds.add("-srckeypass");
-        cmds.add(pwd);
-        cmds.add("-srcstoretype");
-        cmds.add("jks");
-        cmds.add("-destkeystore");
-        cmds.add(this.keystore);
-        cmds.add("-deststorepass");
-        cmds.add(this.password);
-        cmds.add("-destkeypass");
-        cmds.add(this.password);
-        cmds.add("-deststoretype");
-        cmds.add("jks");
-        cmds.add("-noprompt");
-        new VerboseProcess(
-            Keytool.utf(new ProcessBuilder(cmds)), Level.FINE, Level.FINE
-        ).stdout();
+    private List<String> store() {
+        return Arrays.asList(
+            "-storetype",
+            "jks",
+            "-noprompt",
+            "-storepass",
+            this.password,
+            "-keystore",
+            this.keystore
+        );
     }
 
     private static String appendNewLine(final String text) {
@@ -174,33 +240,4 @@ final class Keytool {
     private static String localeDependentYes() {
         return new Yes(Locale.getDefault()).translate();
     }
-
-    private static String keytool() {
-        return String.format(
-            "%s/bin/keytool",
-            System.getProperty("java.home")
-        );
-    }
-
-    private ProcessBuilder proc(final String... args) {
-        final List<String> cmds = new ArrayList<>(args.length + 1);
-        cmds.add(Keytool.keytool());
-        cmds.addAll(java.util.Arrays.asList(args));
-        cmds.add("-storetype");
-        cmds.add("jks");
-        cmds.add("-noprompt");
-        cmds.add("-storepass");
-        cmds.add(this.password);
-        cmds.add("-keystore");
-        cmds.add(this.keystore);
-        return new ProcessBuilder(cmds);
-    }
-
-    private static ProcessBuilder utf(final ProcessBuilder builder) {
-        builder.environment().put(
-            "JAVA_TOOL_OPTIONS",
-            "-Dfile.encoding=UTF-8 -Dstdout.encoding=UTF-8"
-        );
-        return builder;
-    }
 }
@@ -0,0 +1,122 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.log.VerboseProcess;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.Level;
+import lombok.EqualsAndHashCode;
+
+/**
+ * One run of {@code keytool} with the given arguments, in a forked
+ * process of {@code $JAVA_HOME/bin/keytool}.
+ *
+ * <p>JDK doesn't provide keytool as a {@link java.util.spi.ToolProvider},
+ * and its internal entry point is not accessible without
+ * {@code --add-opens}, that's why it's always forked.
+ *
+ * @since 1.0
+ */
+@Immutable
+@EqualsAndHashCode(of = { "profile", "args" })
+final class Launch {
+
+    /**
+     * Profile of forked JVM.
+     */
+    private final transient Profile profile;
+
+    /**
+     * Command line arguments, without the name of the tool.
+     */
+    @Immutable.Array
+    private final transient String[] args;
+
+    /**
+     * Ctor.
+     * @param prof Profile of JVM, if forked
+     * @param arguments Command line arguments
+     */
+    Launch(final Profile prof, final String... arguments) {
+        this(prof, Arrays.asList(arguments));
+    }
+
+    /**
+     * Ctor.
+     * @param prof Profile of JVM, if forked
+     * @param arguments Command line arguments
+     */
+    Launch(final Profile prof, final Collection<String> arguments) {
+        this.profile = prof;
+        this.args = arguments.toArray(new String[0]);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("keytool %s", this.args[0]);
+    }
+
+    /**
+     * Run it and return its standard output.
+     * @return Stdout of keytool
+     * @throws IOException If fails
+     */
+    String stdout() throws IOException {
+        final File scratch = this.profile.scratch();
+        Report.forked();
+        final String out;
+        try {
+            out = new VerboseProcess(
+                Launch.builder(
+                    this.profile, scratch, Arrays.asList(this.args)
+                ),
+                Level.FINE,
+                Level.FINE
+            ).stdout();
+        } catch (final IllegalArgumentException ex) {
+            throw new IOException(String.format("%s failed", this), ex);
+        }
+        this.profile.settle(scratch);
+        return out;
+    }
+
+    /**
+     * Path of the keytool executable in the current JDK.
+     * @return Path
+     */
+    static String executable() {
+        return String.format(
+            "%s/bin/keytool",
+            System.getProperty("java.home")
+        );
+    }
+
+    /**
+     * Make a process builder of forked keytool, which talks UTF-8.
+     * @param prof Profile of the JVM
+     * @param scratch Where the JVM may dump CDS archive
+     * @param arguments Command line arguments, without the executable
+     * @return Process builder
+     */
+    static ProcessBuilder builder(final Profile prof, final File scratch,
+        final Collection<String> arguments) {
+        final List<String> cmds = new ArrayList<>(arguments.size() + 10);
+        cmds.add(Launch.executable());
+        cmds.addAll(prof.flags(scratch));
+        cmds.addAll(arguments);
+        final ProcessBuilder builder = new ProcessBuilder(cmds);
+        builder.environment().put(
+            "JAVA_TOOL_OPTIONS",
+            "-Dfile.encoding=UTF-8 -Dstdout.encoding=UTF-8"
+        );
+        return builder;
+    }
+}
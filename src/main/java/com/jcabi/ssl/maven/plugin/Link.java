@@ -0,0 +1,97 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Replica of a file, made as a hard link when possible, or as a copy.
+ *
+ * <p>A hard link shares its content and its permissions with the
+ * original, that's why a linked replica is left as it is, even when it's
+ * frozen: making it read-only would make the original read-only too.
+ * Only a frozen copy is made read-only. Stores are never rewritten in
+ * place, see {@link Jca#write(File, byte[])}, so a replica can be
+ * replaced later, while the original stays intact.
+ *
+ * @since 1.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = { "source", "target", "frozen" })
+final class Link {
+
+    /**
+     * The original file.
+     */
+    private final transient String source;
+
+    /**
+     * Where the replica should be.
+     */
+    private final transient String target;
+
+    /**
+     * Shall the replica be read-only, when it's a copy?
+     */
+    private final transient boolean frozen;
+
+    /**
+     * Ctor.
+     * @param src The original file
+     * @param dest Where the replica should be
+     */
+    Link(final File src, final File dest) {
+        this(src, dest, false);
+    }
+
+    /**
+     * Ctor.
+     * @param src The original file
+     * @param dest Where the replica should be
+     * @param ro Make the replica read-only, when it's a copy
+     */
+    Link(final File src, final File dest, final boolean ro) {
+        this.source = src.getAbsolutePath();
+        this.target = dest.getAbsolutePath();
+        this.frozen = ro;
+    }
+
+    /**
+     * Make the replica, replacing whatever is there.
+     * @throws IOException If fails
+     */
+    @Loggable(Loggable.DEBUG)
+    void make() throws IOException {
+        final Path src = new File(this.source).toPath();
+        final Path dest = new File(this.target).toPath();
+        if (!Files.exists(dest) || !Files.isSameFile(src, dest)) {
+            Files.createDirectories(dest.getParent());
+            Files.deleteIfExists(dest);
+            try {
+                Files.createLink(dest, src);
+                Logger.info(this, "'%s' linked to '%s'", dest, src);
+            } catch (final IOException | UnsupportedOperationException ex) {
+                Files.copy(src, dest, StandardCopyOption.REPLACE_EXISTING);
+                if (this.frozen) {
+                    dest.toFile().setReadOnly();
+                }
+                Logger.info(
+                    this, "'%s' copied to '%s', can't link: %s",
+                    src, dest, ex.getMessage()
+                );
+            }
+        }
+    }
+}
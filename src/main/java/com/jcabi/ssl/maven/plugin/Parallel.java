@@ -0,0 +1,195 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.ToString;
+
+/**
+ * Independent steps, executed in parallel, one of them in the current
+ * thread and the others in their own threads, or in a smaller pool
+ * of threads, if the number of them is limited.
+ *
+ * <p>When one step fails, the others are cancelled and {@link #run()}
+ * waits for their threads to stop, before it throws the first failure,
+ * with the other ones attached as suppressed.
+ * @since 1.0
+ */
+@ToString
+final class Parallel {
+
+    /**
+     * Steps to run.
+     */
+    private final transient Collection<Parallel.Step> steps;
+
+    /**
+     * How many steps may run at the same time.
+     */
+    private final transient int threads;
+
+    /**
+     * Ctor, to run all steps at the same time.
+     * @param stps Steps to run
+     */
+    Parallel(final Parallel.Step... stps) {
+        this(stps.length, Arrays.asList(stps));
+    }
+
+    /**
+     * Ctor.
+     * @param max How many steps may run at the same time
+     * @param stps Steps to run
+     */
+    Parallel(final int max, final Collection<Parallel.Step> stps) {
+        this.threads = max;
+        this.steps = stps;
+    }
+
+    /**
+     * One step.
+     * @since 1.0
+     */
+    interface Step {
+        /**
+         * Execute it.
+         * @throws IOException If fails
+         */
+        void exec() throws IOException;
+    }
+
+    /**
+     * Run all steps and wait until all of them are finished.
+     * @throws IOException If any of them fails
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    void run() throws IOException {
+        final List<Parallel.Step> all = new ArrayList<>(this.steps);
+        final ExecutorService service = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(this.threads, all.size()) - 1),
+            runnable -> {
+                final Thread thread = new Thread(runnable, "jcabi-ssl");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        final CompletionService<Void> done =
+            new ExecutorCompletionService<>(service);
+        final Collection<Future<Void>> futures = new ArrayList<>(
+            all.size()
+        );
+        final List<Throwable> failures = new LinkedList<>();
+        try {
+            for (int idx = 1; idx < all.size(); ++idx) {
+                final Parallel.Step step = all.get(idx);
+                futures.add(
+                    done.submit(
+                        () -> {
+                            step.exec();
+                            return null;
+                        }
+                    )
+                );
+            }
+            if (!all.isEmpty()) {
+                try {
+                    all.get(0).exec();
+                } catch (final IOException | RuntimeException ex) {
+                    failures.add(ex);
+                    Parallel.cancel(futures);
+                }
+            }
+            for (int idx = 0; idx < futures.size(); ++idx) {
+                final Future<Void> future = done.take();
+                if (future.isCancelled()) {
+                    continue;
+                }
+                try {
+                    future.get();
+                } catch (final ExecutionException ex) {
+                    failures.add(ex.getCause());
+                    Parallel.cancel(futures);
+                }
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failures.add(0, new IOException(ex));
+            Parallel.cancel(futures);
+        } finally {
+            Parallel.stop(service);
+        }
+        if (!failures.isEmpty()) {
+            throw Parallel.first(failures);
+        }
+    }
+
+    /**
+     * Cancel all steps, which are not finished yet.
+     * @param futures Futures of the steps
+     */
+    private static void cancel(final Collection<Future<Void>> futures) {
+        for (final Future<Void> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * Stop the threads and wait until they are finished.
+     * @param service Threads to stop
+     */
+    private static void stop(final ExecutorService service) {
+        service.shutdownNow();
+        try {
+            if (!service.awaitTermination(1L, TimeUnit.MINUTES)) {
+                Logger.warn(
+                    Parallel.class,
+                    "Some steps didn't stop in a minute, left running"
+                );
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The first failure, with the others attached as suppressed.
+     * @param failures All failures, in the order they happened
+     * @return The first one, as IOException
+     */
+    private static IOException first(final List<Throwable> failures) {
+        final Throwable head = failures.get(0);
+        for (final Throwable other : failures.subList(1, failures.size())) {
+            if (other != head) {
+                head.addSuppressed(other);
+            }
+        }
+        if (head instanceof RuntimeException) {
+            throw (RuntimeException) head;
+        }
+        if (head instanceof Error) {
+            throw (Error) head;
+        }
+        final IOException result;
+        if (head instanceof IOException) {
+            result = (IOException) head;
+        } else {
+            result = new IOException(head);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Launch profile of forked keytool JVMs: options of the JVM and
+ * an archive of class-data sharing (CDS).
+ *
+ * <p>Each fork works for less than a second, that's why the JVM doesn't
+ * need C2 compiler (except RSA key generation, see
+ * {@link Algorithm#heavy()}), a parallel GC or a big heap. The CDS archive is
+ * created by the first fork, when it exits, and is used by all others,
+ * which then don't need to load and verify JDK classes from scratch.
+ * The archive depends on the JDK, that's why its name contains
+ * a fingerprint of {@code java.home} and {@code java.vm.version}.
+ *
+ * @since 1.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = { "options", "archive" })
+final class Profile {
+
+    /**
+     * Options that make a short-living JVM start faster.
+     */
+    static final String TUNED = "-XX:TieredStopAtLevel=1"
+        + " -XX:+UseSerialGC -XX:-UsePerfData -Xss512k -Xms8m -Xmx64m";
+
+    /**
+     * JVM options.
+     */
+    @Immutable.Array
+    private final transient String[] options;
+
+    /**
+     * Location of the CDS archive, or empty if not used.
+     */
+    private final transient String archive;
+
+    /**
+     * Ctor, of a JVM with default options and without CDS archive.
+     */
+    Profile() {
+        this("", null);
+    }
+
+    /**
+     * Ctor.
+     * @param opts JVM options, separated by spaces
+     * @param dir Directory of the CDS archive, or NULL if not needed
+     */
+    Profile(final String opts, final File dir) {
+        this(Profile.split(opts), Profile.archive(dir));
+    }
+
+    /**
+     * Ctor.
+     * @param opts JVM options
+     * @param file Location of the CDS archive, or empty
+     */
+    private Profile(final String[] opts, final String file) {
+        this.options = opts;
+        this.archive = file;
+    }
+
+    /**
+     * The same profile without options that start with the prefix.
+     * @param prefix Prefix of the options to remove
+     * @return New profile
+     */
+    Profile without(final String prefix) {
+        return new Profile(
+            Arrays.stream(this.options)
+                .filter(opt -> !opt.startsWith(prefix))
+                .toArray(String[]::new),
+            this.archive
+        );
+    }
+
+    /**
+     * Arguments of keytool that configure its JVM.
+     * @param scratch Where to dump CDS archive, if it's not created yet
+     * @return Arguments, each starting with {@code -J}
+     */
+    List<String> flags(final File scratch) {
+        final List<String> flags = new ArrayList<>(this.options.length + 2);
+        for (final String opt : this.options) {
+            flags.add(String.format("-J%s", opt));
+        }
+        if (!this.archive.isEmpty()) {
+            flags.add("-J-Xshare:auto");
+            if (new File(this.archive).exists()) {
+                flags.add(
+                    String.format("-J-XX:SharedArchiveFile=%s", this.archive)
+                );
+            } else {
+                scratch.getParentFile().mkdirs();
+                flags.add(
+                    String.format(
+                        "-J-XX:ArchiveClassesAtExit=%s",
+                        scratch.getAbsolutePath()
+                    )
+                );
+            }
+        }
+        return flags;
+    }
+
+    /**
+     * Temporary location of CDS archive, for the next fork.
+     * @return The file, which doesn't exist yet
+     */
+    File scratch() {
+        final File file;
+        if (this.archive.isEmpty()) {
+            file = new File(
+                System.getProperty("java.io.tmpdir"),
+                String.format("%s.jsa", UUID.randomUUID())
+            );
+        } else {
+            file = new File(
+                String.format("%s.%s.tmp", this.archive, UUID.randomUUID())
+            );
+        }
+        return file;
+    }
+
+    /**
+     * Move CDS archive, dumped by a fork that exited, to its place.
+     * @param scratch Where the fork dumped it
+     * @throws IOException If fails
+     */
+    void settle(final File scratch) throws IOException {
+        if (scratch.exists()) {
+            try {
+                Files.move(
+                    scratch.toPath(),
+                    new File(this.archive).toPath(),
+                    StandardCopyOption.ATOMIC_MOVE
+                );
+                Logger.info(
+                    this, "CDS archive of keytool created in %s",
+                    this.archive
+                );
+            } catch (final FileAlreadyExistsException ex) {
+                Files.delete(scratch.toPath());
+            }
+        }
+    }
+
+    /**
+     * Location of CDS archive of this JDK.
+     * @param dir Directory of the archive, or NULL if not needed
+     * @return Absolute path, or empty
+     */
+    private static String archive(final File dir) {
+        final String path;
+        if (dir == null) {
+            path = "";
+        } else {
+            path = new File(
+                dir,
+                String.format(
+                    "keytool-%s.jsa",
+                    new Fingerprint(
+                        System.getProperty("java.home"),
+                        System.getProperty("java.vm.version")
+                    ).toString().substring(0, 16)
+                )
+            ).getAbsolutePath();
+        }
+        return path;
+    }
+
+    /**
+     * Split options by spaces.
+     * @param opts Options
+     * @return Array of them
+     */
+    private static String[] split(final String opts) {
+        final String[] parts;
+        if (opts == null || opts.isBlank()) {
+            parts = new String[0];
+        } else {
+            parts = opts.trim().split("\\s+");
+        }
+        return parts;
+    }
+}
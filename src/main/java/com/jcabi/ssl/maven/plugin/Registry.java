@@ -0,0 +1,106 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.IOException;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import lombok.ToString;
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.aether.SessionData;
+
+/**
+ * Registry of active keystores and truststores, one per configuration,
+ * scoped to the Maven session.
+ *
+ * <p>Every configuration is activated only once, by the first module
+ * that asks for it, while others wait for the result, without any global
+ * locks. Modules with different configurations don't interfere, even
+ * when they run in parallel with {@code -T}.
+ *
+ * @since 1.0
+ */
+@ToString
+final class Registry {
+
+    /**
+     * Active configurations and their properties.
+     */
+    private final transient
+        ConcurrentMap<Object, CompletableFuture<Properties>> active;
+
+    /**
+     * Ctor.
+     */
+    Registry() {
+        this.active = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Action that activates a configuration.
+     * @since 1.0
+     */
+    interface Activation {
+        /**
+         * Activate it.
+         * @return Properties to publish
+         * @throws IOException If fails
+         */
+        Properties activate() throws IOException;
+    }
+
+    /**
+     * Get the registry of the session, or a new one if there is no session.
+     * @param session Maven session, or NULL
+     * @return The registry
+     */
+    static Registry of(final MavenSession session) {
+        final Registry registry;
+        if (session == null || session.getRepositorySession() == null) {
+            registry = new Registry();
+        } else {
+            final SessionData data = session.getRepositorySession().getData();
+            data.set(Registry.class, null, new Registry());
+            registry = (Registry) data.get(Registry.class);
+        }
+        return registry;
+    }
+
+    /**
+     * Activate the configuration, unless it is already active, and return
+     * its properties.
+     * @param config The configuration
+     * @param activation What to do to activate it
+     * @return Properties to publish, don't modify them
+     * @throws IOException If fails
+     */
+    Properties activate(final Object config, final Activation activation)
+        throws IOException {
+        final CompletableFuture<Properties> mine = new CompletableFuture<>();
+        final CompletableFuture<Properties> before =
+            this.active.putIfAbsent(config, mine);
+        final Properties props;
+        if (before == null) {
+            try {
+                props = activation.activate();
+                mine.complete(props);
+            } catch (final IOException | RuntimeException ex) {
+                this.active.remove(config, mine);
+                mine.completeExceptionally(ex);
+                throw ex;
+            }
+        } else {
+            try {
+                props = before.join();
+            } catch (final CompletionException ex) {
+                throw new IOException(ex.getCause());
+            }
+        }
+        return props;
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.ToString;
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Execution report of the goal: time, forks and bytes written by each
+ * step, and cache hits.
+ *
+ * <p>Forks are counted per thread, that's why steps running in parallel,
+ * each in its own thread, don't see each other's forks.
+ *
+ * @since 1.0
+ */
+@ToString
+final class Report {
+
+    /**
+     * Number of forked processes, in the current thread.
+     */
+    private static final ThreadLocal<AtomicInteger> FORKS =
+        ThreadLocal.withInitial(AtomicInteger::new);
+
+    /**
+     * Steps measured.
+     */
+    private final transient Collection<Report.Entry> entries;
+
+    /**
+     * Cache hits.
+     */
+    private final transient AtomicInteger hits;
+
+    /**
+     * When it started, in nanoseconds.
+     */
+    private final transient long start;
+
+    /**
+     * Ctor.
+     */
+    Report() {
+        this.entries = new ConcurrentLinkedQueue<>();
+        this.hits = new AtomicInteger();
+        this.start = System.nanoTime();
+    }
+
+    /**
+     * Register a process forked in the current thread.
+     */
+    static void forked() {
+        Report.FORKS.get().incrementAndGet();
+    }
+
+    /**
+     * Register a cache hit.
+     */
+    void hit() {
+        this.hits.incrementAndGet();
+    }
+
+    /**
+     * Run the step and measure it.
+     * @param name Name of the step
+     * @param output File the step writes, its size will be reported
+     * @param step The step
+     * @throws IOException If fails
+     */
+    void measure(final String name, final File output,
+        final Parallel.Step step) throws IOException {
+        this.track(
+            name,
+            () -> {
+                step.exec();
+                return output.length();
+            }
+        );
+    }
+
+    /**
+     * Run the step, which writes nothing, and measure it.
+     * @param name Name of the step
+     * @param step The step
+     * @throws IOException If fails
+     */
+    void measure(final String name, final Parallel.Step step)
+        throws IOException {
+        this.track(
+            name,
+            () -> {
+                step.exec();
+                return 0L;
+            }
+        );
+    }
+
+    /**
+     * Save it as JSON and log a summary.
+     * @param file Where to save the JSON
+     * @throws IOException If fails
+     */
+    void save(final File file) throws IOException {
+        final long wall = TimeUnit.NANOSECONDS.toMillis(
+            System.nanoTime() - this.start
+        );
+        int forks = 0;
+        long bytes = 0L;
+        final StringBuilder steps = new StringBuilder();
+        for (final Report.Entry entry : this.entries) {
+            forks += entry.forks;
+            bytes += entry.bytes;
+            if (steps.length() > 0) {
+                steps.append(',');
+            }
+            steps.append(entry.json());
+        }
+        FileUtils.writeStringToFile(
+            file,
+            String.format(
+                Locale.ENGLISH,
+                String.join(
+                    "",
+                    "{\"wall\":%d,\"forks\":%d,\"bytes\":%d,",
+                    "\"hits\":%d,\"steps\":[%s]}%n"
+                ),
+                wall, forks, bytes, this.hits.get(), steps
+            ),
+            StandardCharsets.UTF_8
+        );
+        Logger.info(
+            this,
+            String.join(
+                " ",
+                "%d step(s) in %[ms]s, %d fork(s), %s written,",
+                "%d cache hit(s), see %s"
+            ),
+            this.entries.size(),
+            wall,
+            forks,
+            FileUtils.byteCountToDisplaySize(bytes),
+            this.hits.get(),
+            file
+        );
+    }
+
+    /**
+     * Run the step, which reports how many bytes it wrote, and measure it.
+     * @param name Name of the step
+     * @param step The step
+     * @throws IOException If fails
+     */
+    private void track(final String name, final Report.Sized step)
+        throws IOException {
+        final int before = Report.FORKS.get().get();
+        final long begin = System.nanoTime();
+        final long bytes = step.exec();
+        this.entries.add(
+            new Report.Entry(
+                name,
+                System.nanoTime() - begin,
+                Report.FORKS.get().get() - before,
+                bytes
+            )
+        );
+    }
+
+    /**
+     * Step that reports bytes written.
+     * @since 1.0
+     */
+    private interface Sized {
+        /**
+         * Execute it.
+         * @return Bytes written
+         * @throws IOException If fails
+         */
+        long exec() throws IOException;
+    }
+
+    /**
+     * One measured step.
+     * @since 1.0
+     */
+    private static final class Entry {
+        /**
+         * Name of the step.
+         */
+        private final String name;
+
+        /**
+         * Time, in nanoseconds.
+         */
+        private final long nanos;
+
+        /**
+         * Processes forked.
+         */
+        private final int forks;
+
+        /**
+         * Bytes written.
+         */
+        private final long bytes;
+
+        /**
+         * Ctor.
+         * @param label Name of the step
+         * @param time Time, in nanoseconds
+         * @param procs Processes forked
+         * @param size Bytes written
+         */
+        Entry(final String label, final long time, final int procs,
+            final long size) {
+            this.name = label;
+            this.nanos = time;
+            this.forks = procs;
+            this.bytes = size;
+        }
+
+        /**
+         * Print it as JSON.
+         * @return JSON object
+         */
+        String json() {
+            return String.format(
+                Locale.ENGLISH,
+                "{\"name\":\"%s\",\"ms\":%d,\"forks\":%d,\"bytes\":%d}",
+                this.name,
+                TimeUnit.NANOSECONDS.toMillis(this.nanos),
+                this.forks,
+                this.bytes
+            );
+        }
+    }
+}
@@ -0,0 +1,687 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.log.Logger;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLException;
+import lombok.ToString;
+
+/**
+ * TLS server on the loopback interface, for integration tests, which
+ * runs on one thread with an NIO selector and {@link SSLEngine}, without
+ * a thread per connection.
+ *
+ * <p>In {@code echo} mode it sends back everything it gets. In
+ * {@code static} mode it answers the first bytes of every connection
+ * with the same HTTP response, and closes it. In {@code proxy} mode it
+ * forwards decrypted bytes to a port on {@code localhost} and encrypts
+ * what comes back.
+ *
+ * <p>A failure of one connection, including a runtime exception of
+ * {@link SSLEngine} on a malformed record, closes only this connection.
+ * Delegated tasks of handshakes, which are the heavy part of them, run
+ * on a pool of threads, so handshakes of many connections don't wait
+ * for each other on the selector thread.
+ *
+ * @since 1.0
+ */
+@ToString(of = { "mode", "target" })
+final class Server implements Closeable {
+
+    /**
+     * Mode, which sends back everything.
+     */
+    static final String ECHO = "echo";
+
+    /**
+     * Mode, which answers with the same HTTP response.
+     */
+    static final String STATIC = "static";
+
+    /**
+     * Mode, which forwards to a port on {@code localhost}.
+     */
+    static final String PROXY = "proxy";
+
+    /**
+     * Maximum number of connections waiting to be accepted.
+     */
+    private static final int BACKLOG = 4096;
+
+    /**
+     * SSL context, with the key of the server.
+     */
+    private final transient SSLContext context;
+
+    /**
+     * Mode.
+     */
+    private final transient String mode;
+
+    /**
+     * HTTP response, in static mode.
+     */
+    private final transient byte[] response;
+
+    /**
+     * Port on {@code localhost} to forward to, in proxy mode.
+     */
+    private final transient int target;
+
+    /**
+     * Selector.
+     */
+    private final transient Selector selector;
+
+    /**
+     * Listening socket.
+     */
+    private final transient ServerSocketChannel channel;
+
+    /**
+     * Threads of delegated tasks of {@link SSLEngine}.
+     */
+    private final transient ExecutorService tasks;
+
+    /**
+     * Connections, which delegated tasks are done, to be handled on
+     * the selector thread.
+     */
+    private final transient Queue<Server.Conn> ready;
+
+    /**
+     * Connections accepted.
+     */
+    private final transient AtomicLong accepted;
+
+    /**
+     * Thread of the selector loop.
+     */
+    private transient Thread thread;
+
+    /**
+     * Is it closed?
+     */
+    private transient volatile boolean closed;
+
+    /**
+     * Ctor.
+     * @param ctx SSL context, with the key of the server
+     * @param mde Mode, {@code echo}, {@code static} or {@code proxy}
+     * @param body Body of HTTP response, in static mode, maybe NULL
+     * @param port Port on {@code localhost} to forward to, in proxy mode
+     * @throws IOException If fails
+     */
+    Server(final SSLContext ctx, final String mde, final String body,
+        final int port) throws IOException {
+        if (!Arrays.asList(Server.ECHO, Server.STATIC, Server.PROXY)
+            .contains(mde)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Mode '%s' is unknown, use '%s', '%s' or '%s'",
+                    mde, Server.ECHO, Server.STATIC, Server.PROXY
+                )
+            );
+        }
+        if (Server.PROXY.equals(mde) && port <= 0) {
+            throw new IllegalArgumentException(
+                "Port to forward to is required in proxy mode"
+            );
+        }
+        this.context = ctx;
+        this.mode = mde;
+        final String text = Objects.toString(body, "");
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        this.response = String.format(
+            String.join(
+                "\r\n",
+                "HTTP/1.1 200 OK",
+                "Content-Type: text/plain; charset=utf-8",
+                "Content-Length: %d",
+                "Connection: close",
+                "",
+                "%s"
+            ),
+            bytes.length, text
+        ).getBytes(StandardCharsets.UTF_8);
+        this.target = port;
+        this.selector = Selector.open();
+        this.channel = ServerSocketChannel.open();
+        this.tasks = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            runnable -> {
+                final Thread thread = new Thread(
+                    runnable, "jcabi-ssl-server-task"
+                );
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        this.ready = new ConcurrentLinkedQueue<>();
+        this.accepted = new AtomicLong();
+    }
+
+    /**
+     * Start listening, on a thread of its own.
+     * @param port Port to listen on, or zero to take any free one
+     * @return The port it listens on
+     * @throws IOException If fails
+     */
+    int start(final int port) throws IOException {
+        this.channel.bind(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), port),
+            Server.BACKLOG
+        );
+        this.channel.configureBlocking(false);
+        this.channel.register(this.selector, SelectionKey.OP_ACCEPT);
+        this.thread = new Thread(this::loop, "jcabi-ssl-server");
+        this.thread.setDaemon(true);
+        this.thread.start();
+        final int local = this.channel.socket().getLocalPort();
+        Logger.info(
+            this, "TLS server started on port %d, in %s mode", local, this.mode
+        );
+        return local;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        this.selector.wakeup();
+        if (this.thread == null) {
+            this.tasks.shutdownNow();
+            this.selector.close();
+            this.channel.close();
+        } else {
+            try {
+                this.thread.join(TimeUnit.SECONDS.toMillis(10L));
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            }
+        }
+        Logger.info(
+            this, "TLS server stopped, %d connection(s) accepted",
+            this.accepted.get()
+        );
+    }
+
+    /**
+     * Serve connections, until closed.
+     */
+    private void loop() {
+        try {
+            while (!this.closed) {
+                this.selector.select();
+                final Iterator<SelectionKey> keys =
+                    this.selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    final SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        this.accept();
+                    } else {
+                        ((Server.Conn) key.attachment()).handle(key);
+                    }
+                }
+                Server.Conn conn = this.ready.poll();
+                while (conn != null) {
+                    conn.handle(null);
+                    conn = this.ready.poll();
+                }
+            }
+        } catch (final IOException | ClosedSelectorException ex) {
+            Logger.warn(this, "TLS server failed: %[exception]s", ex);
+        } finally {
+            this.tasks.shutdownNow();
+            for (final SelectionKey key : this.selector.keys()) {
+                Server.quietly(key.channel());
+            }
+            Server.quietly(this.selector);
+            Server.quietly(this.channel);
+        }
+    }
+
+    /**
+     * Accept all pending connections.
+     * @throws IOException If fails
+     */
+    private void accept() throws IOException {
+        SocketChannel client = this.channel.accept();
+        while (client != null) {
+            this.accepted.incrementAndGet();
+            final Server.Conn conn = new Server.Conn(client);
+            try {
+                conn.open();
+            } catch (final IOException | RuntimeException ex) {
+                Logger.debug(this, "Connection refused: %s", ex.getMessage());
+                conn.close();
+            }
+            client = this.channel.accept();
+        }
+    }
+
+    /**
+     * Close it, ignoring errors.
+     * @param res The resource
+     */
+    private static void quietly(final Closeable res) {
+        try {
+            res.close();
+        } catch (final IOException ex) {
+            Logger.debug(Server.class, "Can't close: %s", ex.getMessage());
+        }
+    }
+
+    /**
+     * Copy as many bytes as fit.
+     * @param src Source, ready for reading
+     * @param dest Destination, ready for writing
+     * @return How many bytes were copied
+     */
+    private static int move(final ByteBuffer src, final ByteBuffer dest) {
+        final int size = Math.min(src.remaining(), dest.remaining());
+        final ByteBuffer part = src.slice();
+        part.limit(size);
+        dest.put(part);
+        src.position(src.position() + size);
+        return size;
+    }
+
+    /**
+     * One connection.
+     * @since 1.0
+     */
+    private final class Conn {
+
+        /**
+         * Socket of the client.
+         */
+        private final transient SocketChannel client;
+
+        /**
+         * TLS engine.
+         */
+        private final transient SSLEngine engine;
+
+        /**
+         * Encrypted bytes from the client.
+         */
+        private final transient ByteBuffer netin;
+
+        /**
+         * Encrypted bytes to the client.
+         */
+        private final transient ByteBuffer netout;
+
+        /**
+         * Decrypted bytes from the client.
+         */
+        private final transient ByteBuffer appin;
+
+        /**
+         * Bytes to encrypt and send to the client.
+         */
+        private final transient ByteBuffer appout;
+
+        /**
+         * Key of the client socket.
+         */
+        private transient SelectionKey key;
+
+        /**
+         * Socket of the upstream, in proxy mode, or NULL.
+         */
+        private transient SocketChannel upstream;
+
+        /**
+         * Key of the upstream socket, or NULL.
+         */
+        private transient SelectionKey upkey;
+
+        /**
+         * Is the upstream connected?
+         */
+        private transient boolean connected;
+
+        /**
+         * Has the upstream closed its side?
+         */
+        private transient boolean drained;
+
+        /**
+         * What is left of the response, in static mode, or NULL.
+         */
+        private transient ByteBuffer reply;
+
+        /**
+         * Ctor.
+         * @param sock Socket of the client
+         */
+        Conn(final SocketChannel sock) {
+            this.client = sock;
+            this.engine = Server.this.context.createSSLEngine();
+            this.engine.setUseClientMode(false);
+            final int packet = this.engine.getSession().getPacketBufferSize();
+            final int app = this.engine.getSession()
+                .getApplicationBufferSize();
+            this.netin = ByteBuffer.allocate(packet);
+            this.netout = ByteBuffer.allocate(packet);
+            this.appin = ByteBuffer.allocate(app);
+            this.appout = ByteBuffer.allocate(app);
+        }
+
+        /**
+         * Register sockets and start the handshake.
+         * @throws IOException If fails
+         */
+        void open() throws IOException {
+            this.client.configureBlocking(false);
+            this.client.socket().setTcpNoDelay(true);
+            this.key = this.client.register(
+                Server.this.selector, SelectionKey.OP_READ, this
+            );
+            if (Server.PROXY.equals(Server.this.mode)) {
+                this.upstream = SocketChannel.open();
+                this.upstream.configureBlocking(false);
+                this.connected = this.upstream.connect(
+                    new InetSocketAddress(
+                        InetAddress.getLoopbackAddress(), Server.this.target
+                    )
+                );
+                this.upkey = this.upstream.register(
+                    Server.this.selector, SelectionKey.OP_CONNECT, this
+                );
+            }
+            this.engine.beginHandshake();
+            this.interest();
+        }
+
+        /**
+         * Handle the event of one of its sockets, or the end of its
+         * delegated tasks. A failure closes only this connection.
+         * @param sel Key of the socket, or NULL if delegated tasks are done
+         */
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        void handle(final SelectionKey sel) {
+            try {
+                if (sel != null && sel.equals(this.upkey)) {
+                    if (sel.isConnectable()) {
+                        this.connected = this.upstream.finishConnect();
+                    }
+                } else if (sel != null && sel.isReadable()
+                    && this.client.read(this.netin) < 0) {
+                    this.close();
+                }
+                if (this.client.isOpen()) {
+                    this.process();
+                }
+            } catch (final IOException | RuntimeException ex) {
+                Logger.debug(this, "Connection failed: %s", ex.getMessage());
+                this.close();
+            }
+        }
+
+        /**
+         * Move bytes between sockets, the engine and the buffers,
+         * while anything moves.
+         * @throws IOException If fails
+         */
+        private void process() throws IOException {
+            boolean progress = true;
+            while (progress) {
+                progress = this.tasks();
+                progress |= this.unwrap();
+                progress |= this.serve();
+                progress |= this.wrap();
+                progress |= this.flush();
+            }
+            if (this.engine.isOutboundDone()
+                && this.netout.position() == 0) {
+                this.close();
+            } else {
+                this.interest();
+            }
+        }
+
+        /**
+         * Start delegated tasks of the engine on the pool, which hands
+         * the connection back to the selector thread when they are done.
+         * @return FALSE, since nothing moves until they are done
+         */
+        private boolean tasks() {
+            final Collection<Runnable> list = new LinkedList<>();
+            Runnable task = this.engine.getDelegatedTask();
+            while (task != null) {
+                list.add(task);
+                task = this.engine.getDelegatedTask();
+            }
+            if (!list.isEmpty()) {
+                Server.this.tasks.execute(
+                    () -> {
+                        for (final Runnable each : list) {
+                            each.run();
+                        }
+                        Server.this.ready.add(this);
+                        Server.this.selector.wakeup();
+                    }
+                );
+            }
+            return false;
+        }
+
+        /**
+         * Decrypt what came from the client.
+         * @return TRUE if anything moved
+         * @throws SSLException If fails
+         */
+        private boolean unwrap() throws SSLException {
+            final SSLEngineResult.HandshakeStatus status =
+                this.engine.getHandshakeStatus();
+            boolean moved = false;
+            if (this.netin.position() > 0 && !this.engine.isInboundDone()
+                && status != SSLEngineResult.HandshakeStatus.NEED_WRAP
+                && status != SSLEngineResult.HandshakeStatus.NEED_TASK) {
+                this.netin.flip();
+                final SSLEngineResult res;
+                try {
+                    res = this.engine.unwrap(this.netin, this.appin);
+                } finally {
+                    this.netin.compact();
+                }
+                moved = res.bytesConsumed() > 0 || res.bytesProduced() > 0;
+            }
+            return moved;
+        }
+
+        /**
+         * Encrypt what goes to the client, when the buffer to the client
+         * is empty.
+         * @return TRUE if anything moved
+         * @throws SSLException If fails
+         */
+        private boolean wrap() throws SSLException {
+            final SSLEngineResult.HandshakeStatus status =
+                this.engine.getHandshakeStatus();
+            final boolean ready = status
+                == SSLEngineResult.HandshakeStatus.NOT_HANDSHAKING
+                || status == SSLEngineResult.HandshakeStatus.FINISHED;
+            boolean moved = false;
+            if (this.netout.position() == 0
+                && (status == SSLEngineResult.HandshakeStatus.NEED_WRAP
+                || ready && this.appout.position() > 0)) {
+                this.appout.flip();
+                final SSLEngineResult res;
+                try {
+                    res = this.engine.wrap(this.appout, this.netout);
+                } finally {
+                    this.appout.compact();
+                }
+                moved = res.bytesConsumed() > 0 || res.bytesProduced() > 0;
+            }
+            return moved;
+        }
+
+        /**
+         * Send encrypted bytes to the client.
+         * @return TRUE if anything was sent
+         * @throws IOException If fails
+         */
+        private boolean flush() throws IOException {
+            boolean sent = false;
+            if (this.netout.position() > 0) {
+                this.netout.flip();
+                try {
+                    sent = this.client.write(this.netout) > 0;
+                } finally {
+                    this.netout.compact();
+                }
+            }
+            return sent;
+        }
+
+        /**
+         * Do what the mode says with decrypted bytes.
+         * @return TRUE if anything moved
+         * @throws IOException If fails
+         */
+        private boolean serve() throws IOException {
+            final boolean moved;
+            if (Server.ECHO.equals(Server.this.mode)) {
+                this.appin.flip();
+                moved = Server.move(this.appin, this.appout) > 0;
+                this.appin.compact();
+            } else if (Server.STATIC.equals(Server.this.mode)) {
+                moved = this.respond();
+            } else {
+                moved = this.forward();
+            }
+            return moved;
+        }
+
+        /**
+         * Answer with the HTTP response, then close.
+         * @return TRUE if anything moved
+         */
+        private boolean respond() {
+            boolean moved = false;
+            if (this.appin.position() > 0) {
+                this.appin.clear();
+                if (this.reply == null) {
+                    this.reply = ByteBuffer.wrap(Server.this.response);
+                }
+                moved = true;
+            }
+            if (this.reply != null) {
+                moved |= Server.move(this.reply, this.appout) > 0;
+                if (!this.reply.hasRemaining()
+                    && this.appout.position() == 0
+                    && !this.engine.isOutboundDone()) {
+                    this.engine.closeOutbound();
+                    moved = true;
+                }
+            }
+            return moved;
+        }
+
+        /**
+         * Exchange bytes with the upstream.
+         * @return TRUE if anything moved
+         * @throws IOException If fails
+         */
+        private boolean forward() throws IOException {
+            boolean moved = false;
+            if (this.connected) {
+                if (this.appin.position() > 0) {
+                    this.appin.flip();
+                    try {
+                        moved = this.upstream.write(this.appin) > 0;
+                    } finally {
+                        this.appin.compact();
+                    }
+                }
+                if (!this.drained && this.appout.hasRemaining()) {
+                    final int read = this.upstream.read(this.appout);
+                    if (read < 0) {
+                        this.drained = true;
+                    }
+                    moved |= read != 0;
+                }
+                if (this.drained && this.appout.position() == 0
+                    && !this.engine.isOutboundDone()) {
+                    this.engine.closeOutbound();
+                    moved = true;
+                }
+            }
+            return moved;
+        }
+
+        /**
+         * Tell the selector what this connection waits for.
+         */
+        private void interest() {
+            int ops = 0;
+            if (this.netin.hasRemaining()) {
+                ops |= SelectionKey.OP_READ;
+            }
+            if (this.netout.position() > 0) {
+                ops |= SelectionKey.OP_WRITE;
+            }
+            this.key.interestOps(ops);
+            if (this.upkey != null) {
+                int up = 0;
+                if (!this.connected) {
+                    up = SelectionKey.OP_CONNECT;
+                } else {
+                    if (!this.drained && this.appout.hasRemaining()) {
+                        up |= SelectionKey.OP_READ;
+                    }
+                    if (this.appin.position() > 0) {
+                        up |= SelectionKey.OP_WRITE;
+                    }
+                }
+                this.upkey.interestOps(up);
+            }
+        }
+
+        /**
+         * Close all sockets of the connection.
+         */
+        private void close() {
+            Server.quietly(this.client);
+            if (this.upstream != null) {
+                Server.quietly(this.upstream);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.IOException;
+import javax.net.ssl.SSLContext;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * JUnit 5 extension, which injects a ready {@link SSLContext} into
+ * test methods and constructors.
+ *
+ * <p>When {@code javax.net.ssl.keyStore} is set, for example by
+ * {@code keygen} through Surefire, the context is made of the keystore and
+ * the truststore the plugin generated. Otherwise a key and a certificate
+ * of {@code localhost} and {@code 127.0.0.1} are generated in memory,
+ * without any disk I/O, and the context trusts only this certificate.
+ * In both cases the context is made once per JVM and shared by all test
+ * classes:
+ *
+ * <pre> &#64;ExtendWith(SslExtension.class)
+ * final class ServerTest {
+ *   &#64;Test
+ *   void talksTls(final SSLContext context) {
+ *     // ...
+ *   }
+ * }</pre>
+ *
+ * <p>The plugin itself doesn't need JUnit, it's an optional dependency,
+ * which the test classpath of the project already has.
+ *
+ * @since 1.0
+ */
+public final class SslExtension implements ParameterResolver {
+
+    @Override
+    public boolean supportsParameter(final ParameterContext param,
+        final ExtensionContext ctx) {
+        return param.getParameter().getType().equals(SSLContext.class);
+    }
+
+    @Override
+    public Object resolveParameter(final ParameterContext param,
+        final ExtensionContext ctx) {
+        try {
+            return SslExtension.context();
+        } catch (final IOException ex) {
+            throw new ParameterResolutionException(
+                "Can't make SSL context", ex
+            );
+        }
+    }
+
+    /**
+     * The context, made of the stores in {@code javax.net.ssl.*}
+     * system properties, or in memory, if they are not set.
+     * @return The context, the same every time
+     * @throws IOException If fails
+     */
+    public static SSLContext context() throws IOException {
+        return Contexts.context(System.getProperties());
+    }
+}
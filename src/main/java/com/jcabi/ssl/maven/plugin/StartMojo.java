@@ -0,0 +1,135 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.util.Properties;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.slf4j.impl.StaticLoggerBinder;
+
+/**
+ * Start TLS server, with the key generated by {@code keygen}, for
+ * integration tests.
+ * @since 1.0
+ */
+@Mojo(
+    name = "start",
+    defaultPhase = LifecyclePhase.PRE_INTEGRATION_TEST,
+    threadSafe = true
+)
+public final class StartMojo extends AbstractMojo {
+
+    /**
+     * Maven project.
+     */
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private transient MavenProject project;
+
+    /**
+     * Shall we skip execution?
+     */
+    @Parameter
+    private transient boolean skip;
+
+    /**
+     * What the server does: {@code echo} sends back everything,
+     * {@code static} answers every connection with the same HTTP response,
+     * {@code proxy} forwards to a port on {@code localhost}.
+     */
+    @Parameter(defaultValue = "echo")
+    private transient String mode;
+
+    /**
+     * Port to listen on, zero to take any free one.
+     */
+    @Parameter(defaultValue = "0")
+    private transient int port;
+
+    /**
+     * Body of HTTP response, in {@code static} mode.
+     */
+    @Parameter
+    private transient String body;
+
+    /**
+     * Port on {@code localhost} to forward to, in {@code proxy} mode.
+     */
+    @Parameter(defaultValue = "0")
+    private transient int target;
+
+    /**
+     * Maven property to set to the port the server listens on.
+     */
+    @Parameter(defaultValue = "jcabi.ssl.port")
+    private transient String portProperty;
+
+    /**
+     * Creates StartMojo.
+     */
+    public StartMojo() {
+        this(null);
+    }
+
+    /**
+     * Creates StartMojo with default configuration.
+     * @param prj Maven project
+     */
+    public StartMojo(final MavenProject prj) {
+        super();
+        this.project = prj;
+        this.mode = Server.ECHO;
+        this.portProperty = "jcabi.ssl.port";
+    }
+
+    /**
+     * Set skip option.
+     * @param skp Shall we skip execution?
+     */
+    public void setSkip(final boolean skp) {
+        this.skip = skp;
+    }
+
+    @Override
+    public void execute() throws MojoFailureException {
+        StaticLoggerBinder.getSingleton().setMavenLog(this.getLog());
+        if (this.skip) {
+            Logger.info(this, "execution skipped because of 'skip' option");
+            return;
+        }
+        try {
+            Demand.settle(this.project);
+            final Properties props = this.project.getProperties();
+            if (props.getProperty(Keystore.KEY) == null) {
+                throw new MojoFailureException(
+                    String.format(
+                        "Maven property ${%s} is not set, %s",
+                        Keystore.KEY, "run 'keygen' goal before 'start'"
+                    )
+                );
+            }
+            final Server server = new Server(
+                Contexts.context(props),
+                this.mode, this.body, this.target
+            );
+            final int local = server.start(this.port);
+            this.project.setContextValue(Server.class.getName(), server);
+            this.project.getProperties().put(
+                this.portProperty, Integer.toString(local)
+            );
+            Logger.info(
+                this, "Maven property ${%s} set to '%d'",
+                this.portProperty, local
+            );
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.slf4j.impl.StaticLoggerBinder;
+
+/**
+ * Stop TLS server, started by {@code start}.
+ * @since 1.0
+ */
+@Mojo(
+    name = "stop",
+    defaultPhase = LifecyclePhase.POST_INTEGRATION_TEST,
+    threadSafe = true
+)
+public final class StopMojo extends AbstractMojo {
+
+    /**
+     * Maven project.
+     */
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private transient MavenProject project;
+
+    /**
+     * Creates StopMojo.
+     */
+    public StopMojo() {
+        this(null);
+    }
+
+    /**
+     * Creates StopMojo.
+     * @param prj Maven project
+     */
+    public StopMojo(final MavenProject prj) {
+        super();
+        this.project = prj;
+    }
+
+    @Override
+    public void execute() {
+        StaticLoggerBinder.getSingleton().setMavenLog(this.getLog());
+        final Object server = this.project.getContextValue(
+            Server.class.getName()
+        );
+        if (server == null) {
+            Logger.info(this, "TLS server is not running");
+        } else {
+            try {
+                ((Server) server).close();
+            } catch (final IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+            this.project.setContextValue(Server.class.getName(), null);
+        }
+    }
+}
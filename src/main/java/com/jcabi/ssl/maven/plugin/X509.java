@@ -0,0 +1,328 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.aspects.Immutable;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import javax.security.auth.x500.X500Principal;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * X.509 certificate, built and signed in memory, without keytool.
+ *
+ * <p>Subject alternative names, if there are any, are either DNS names
+ * or IP addresses, which are told apart by their syntax, without DNS
+ * lookups. A certificate of an authority gets critical basic constraints
+ * with {@code cA} set, which is all PKIX needs to trust certificates
+ * it signs.
+ *
+ * @since 1.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(
+    of = { "subject", "days", "algorithm", "start", "authority", "names" }
+)
+final class X509 {
+
+    /**
+     * Object identifier of subject alternative name extension.
+     */
+    private static final String SAN = "2.5.29.17";
+
+    /**
+     * Object identifier of basic constraints extension.
+     */
+    private static final String CONSTRAINTS = "2.5.29.19";
+
+    /**
+     * Tag of {@code dNSName} in {@code GeneralName}.
+     */
+    private static final int DNS = 2;
+
+    /**
+     * Tag of {@code iPAddress} in {@code GeneralName}.
+     */
+    private static final int IP = 7;
+
+    /**
+     * Syntax of IPv4 address.
+     */
+    private static final Pattern IPV4 = Pattern.compile(
+        "\\d{1,3}(?:\\.\\d{1,3}){3}"
+    );
+
+    /**
+     * Subject distinguished name.
+     */
+    private final transient String subject;
+
+    /**
+     * Validity, in days.
+     */
+    private final transient long days;
+
+    /**
+     * Signature algorithm.
+     */
+    private final transient Algorithm algorithm;
+
+    /**
+     * Beginning of validity, in milliseconds since epoch, or zero to
+     * start it at the moment of signing.
+     */
+    private final transient long start;
+
+    /**
+     * Is it a certificate of an authority, which signs others?
+     */
+    private final transient boolean authority;
+
+    /**
+     * Subject alternative names.
+     */
+    @Immutable.Array
+    private final transient String[] names;
+
+    /**
+     * Ctor, for certificates signed with SHA256withRSA.
+     * @param dname Subject distinguished name
+     * @param validity Validity in days
+     */
+    X509(final String dname, final long validity) {
+        this(dname, validity, new Algorithm());
+    }
+
+    /**
+     * Ctor.
+     * @param dname Subject distinguished name
+     * @param validity Validity in days
+     * @param alg Algorithm of the keys and the signature
+     */
+    X509(final String dname, final long validity, final Algorithm alg) {
+        this(dname, validity, alg, 0L);
+    }
+
+    /**
+     * Ctor.
+     * @param dname Subject distinguished name
+     * @param validity Validity in days
+     * @param alg Algorithm of the keys and the signature
+     * @param from Beginning of validity, in milliseconds since epoch,
+     *  or zero to start it at the moment of signing
+     */
+    X509(final String dname, final long validity, final Algorithm alg,
+        final long from) {
+        this(dname, validity, alg, from, false, new String[0]);
+    }
+
+    /**
+     * Ctor.
+     * @param dname Subject distinguished name
+     * @param validity Validity in days
+     * @param alg Algorithm of the keys and the signature
+     * @param from Beginning of validity, or zero
+     * @param auth Is it a certificate of an authority?
+     * @param sans Subject alternative names
+     */
+    private X509(final String dname, final long validity,
+        final Algorithm alg, final long from, final boolean auth,
+        final String... sans) {
+        this.subject = dname;
+        this.days = validity;
+        this.algorithm = alg;
+        this.start = from;
+        this.authority = auth;
+        this.names = sans;
+    }
+
+    /**
+     * The same certificate, with subject alternative names.
+     * @param sans DNS names or IP addresses
+     * @return New certificate
+     */
+    X509 with(final Collection<String> sans) {
+        return new X509(
+            this.subject, this.days, this.algorithm, this.start,
+            this.authority, sans.toArray(new String[0])
+        );
+    }
+
+    /**
+     * The same certificate, of an authority, which can sign others.
+     * @return New certificate
+     */
+    X509 authority() {
+        return new X509(
+            this.subject, this.days, this.algorithm, this.start, true,
+            this.names
+        );
+    }
+
+    /**
+     * Make a self-signed certificate for the given key pair.
+     * @param pair The key pair
+     * @param random Source of randomness for the serial number
+     * @return The certificate
+     * @throws IOException If fails
+     */
+    X509Certificate selfSigned(final KeyPair pair, final SecureRandom random)
+        throws IOException {
+        return this.signed(
+            pair.getPublic(),
+            new X500Principal(this.subject),
+            pair.getPrivate(),
+            random
+        );
+    }
+
+    /**
+     * Make a certificate for the given public key, signed by
+     * the authority, which must have a key of the same algorithm.
+     * @param key The public key
+     * @param issuer Key and certificate of the authority
+     * @param random Source of randomness for the serial number
+     * @return The certificate
+     * @throws IOException If fails
+     */
+    X509Certificate issued(final PublicKey key,
+        final KeyStore.PrivateKeyEntry issuer, final SecureRandom random)
+        throws IOException {
+        return this.signed(
+            key,
+            ((X509Certificate) issuer.getCertificate())
+                .getSubjectX500Principal(),
+            issuer.getPrivateKey(),
+            random
+        );
+    }
+
+    /**
+     * Make a certificate.
+     * @param key The public key of the subject
+     * @param issuer Name of the issuer
+     * @param signer The private key of the issuer
+     * @param random Source of randomness
+     * @return The certificate
+     * @throws IOException If fails
+     */
+    private X509Certificate signed(final PublicKey key,
+        final X500Principal issuer, final PrivateKey signer,
+        final SecureRandom random) throws IOException {
+        final byte[] name = new X500Principal(this.subject).getEncoded();
+        final byte[] algo = this.algorithm.identifier();
+        final long now;
+        if (this.start == 0L) {
+            now = System.currentTimeMillis();
+        } else {
+            now = this.start;
+        }
+        final byte[] tbs = Der.sequence(
+            Der.explicit(0, Der.integer(BigInteger.valueOf(2L))),
+            Der.integer(new BigInteger(63, random)),
+            algo,
+            issuer.getEncoded(),
+            Der.sequence(
+                Der.time(new Date(now)),
+                Der.time(new Date(now + TimeUnit.DAYS.toMillis(this.days)))
+            ),
+            name,
+            key.getEncoded(),
+            this.extensions()
+        );
+        try {
+            final Signature sign = Signature.getInstance(
+                this.algorithm.signature()
+            );
+            sign.initSign(signer, random);
+            sign.update(tbs);
+            return (X509Certificate) CertificateFactory.getInstance("X.509")
+                .generateCertificate(
+                    new ByteArrayInputStream(
+                        Der.sequence(tbs, algo, Der.bits(sign.sign()))
+                    )
+                );
+        } catch (final GeneralSecurityException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Extensions of the certificate.
+     * @return DER bytes, empty if there are no extensions
+     * @throws IOException If an IP address is broken
+     */
+    private byte[] extensions() throws IOException {
+        final List<byte[]> all = new ArrayList<>(2);
+        if (this.authority) {
+            all.add(
+                Der.sequence(
+                    Der.oid(X509.CONSTRAINTS),
+                    Der.bool(true),
+                    Der.octets(Der.sequence(Der.bool(true)))
+                )
+            );
+        }
+        if (this.names.length > 0) {
+            final byte[][] general = new byte[this.names.length][];
+            for (int idx = 0; idx < this.names.length; ++idx) {
+                general[idx] = X509.general(this.names[idx]);
+            }
+            all.add(
+                Der.sequence(
+                    Der.oid(X509.SAN),
+                    Der.octets(Der.sequence(general))
+                )
+            );
+        }
+        final byte[] ext;
+        if (all.isEmpty()) {
+            ext = new byte[0];
+        } else {
+            ext = Der.explicit(3, Der.sequence(all.toArray(new byte[0][])));
+        }
+        return ext;
+    }
+
+    /**
+     * Encode one subject alternative name, as {@code GeneralName}.
+     * @param name DNS name or IP address
+     * @return DER bytes
+     * @throws IOException If the IP address is broken
+     */
+    private static byte[] general(final String name) throws IOException {
+        final byte[] encoded;
+        if (X509.IPV4.matcher(name).matches() || name.contains(":")) {
+            encoded = Der.implicit(
+                X509.IP, InetAddress.getByName(name).getAddress()
+            );
+        } else {
+            encoded = Der.implicit(
+                X509.DNS, name.getBytes(StandardCharsets.US_ASCII)
+            );
+        }
+        return encoded;
+    }
+}
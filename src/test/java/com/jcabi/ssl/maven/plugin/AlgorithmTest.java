@@ -0,0 +1,70 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.security.KeyPair;
+import java.security.SecureRandom;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Algorithm}.
+ * @since 1.0
+ */
+final class AlgorithmTest {
+
+    /**
+     * Algorithm can use RSA-2048 by default.
+     */
+    @Test
+    void usesRsaByDefault() {
+        MatcherAssert.assertThat(
+            "default algorithm is not RSA-2048",
+            new Algorithm(null, 0, null),
+            Matchers.hasToString("RSA-2048/SHA256withRSA")
+        );
+    }
+
+    /**
+     * Algorithm can derive signature from EC curve size.
+     */
+    @Test
+    void derivesSignatureOfEllipticCurve() {
+        MatcherAssert.assertThat(
+            "signature doesn't match the curve",
+            new Algorithm("ec", 384, "").signature(),
+            Matchers.equalTo("SHA384withECDSA")
+        );
+    }
+
+    /**
+     * Algorithm can generate Ed25519 keys.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void generatesEdwardsKeys() throws Exception {
+        final KeyPair pair = new Algorithm("Ed25519", 0, "")
+            .generate(new SecureRandom());
+        MatcherAssert.assertThat(
+            "key is not Ed25519",
+            pair.getPublic().getAlgorithm(),
+            Matchers.equalTo("EdDSA")
+        );
+    }
+
+    /**
+     * Algorithm can reject a signature that doesn't fit the key.
+     */
+    @Test
+    void rejectsMismatchedSignature() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Algorithm("RSA", 2048, "SHA256withECDSA"),
+            "mismatched signature is accepted"
+        );
+    }
+}
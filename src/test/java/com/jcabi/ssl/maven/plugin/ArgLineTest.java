@@ -0,0 +1,106 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.util.Properties;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ArgLine}.
+ * @since 1.0
+ */
+final class ArgLineTest {
+
+    /**
+     * ArgLine can keep options that are already there.
+     */
+    @Test
+    void mergesWithExistingOptions() {
+        final Properties target = new Properties();
+        target.put("argLine", "-Xmx1g -javaagent:/tmp/agent.jar=x");
+        final Properties props = new Properties();
+        props.put(Keystore.KEY, "/tmp/keystore.jks");
+        props.put(Keystore.KEY_PWD, "secret");
+        props.put("jcabi.ssl.pkcs12", "/tmp/keystore.p12");
+        MatcherAssert.assertThat(
+            "options cannot be merged",
+            new ArgLine("argLine", 0).inject(target, props),
+            Matchers.equalTo(
+                String.join(
+                    " ",
+                    "-Xmx1g -javaagent:/tmp/agent.jar=x",
+                    "-Djavax.net.ssl.keyStore=/tmp/keystore.jks",
+                    "-Djavax.net.ssl.keyStorePassword=secret"
+                )
+            )
+        );
+    }
+
+    /**
+     * ArgLine can replace its own options, when injected again.
+     */
+    @Test
+    void replacesOwnOptions() {
+        final Properties target = new Properties();
+        final Properties props = new Properties();
+        props.put(Cacerts.TRUST, "/tmp/old/cacerts.jks");
+        final ArgLine line = new ArgLine("surefire.argLine", 0);
+        line.inject(target, props);
+        props.put(Cacerts.TRUST, "/tmp/new dir/cacerts.jks");
+        line.inject(target, props);
+        MatcherAssert.assertThat(
+            "options cannot be replaced",
+            line.inject(target, props),
+            Matchers.equalTo(
+                "\"-Djavax.net.ssl.trustStore=/tmp/new dir/cacerts.jks\""
+            )
+        );
+    }
+
+    /**
+     * ArgLine can keep {@code javax.net.ssl} options it doesn't set.
+     */
+    @Test
+    void keepsForeignSslOptions() {
+        final Properties target = new Properties();
+        target.put(
+            "argLine",
+            String.join(
+                " ",
+                "-Djavax.net.ssl.trustStoreType=PKCS12",
+                "-Djavax.net.ssl.keyStore=/tmp/old.jks"
+            )
+        );
+        final Properties props = new Properties();
+        props.put(Keystore.KEY, "/tmp/new.jks");
+        MatcherAssert.assertThat(
+            "foreign options cannot be kept",
+            new ArgLine("argLine", 0).inject(target, props),
+            Matchers.equalTo(
+                String.join(
+                    " ",
+                    "-Djavax.net.ssl.trustStoreType=PKCS12",
+                    "-Djavax.net.ssl.keyStore=/tmp/new.jks"
+                )
+            )
+        );
+    }
+
+    /**
+     * ArgLine can set size of the session cache.
+     */
+    @Test
+    void setsSessionCacheSize() {
+        final Properties target = new Properties();
+        target.put("argLine", "-ea");
+        MatcherAssert.assertThat(
+            "session cache size cannot be set",
+            new ArgLine("argLine", 4096).inject(target, new Properties()),
+            Matchers.equalTo("-ea -Djavax.net.ssl.sessionCacheSize=4096")
+        );
+    }
+}
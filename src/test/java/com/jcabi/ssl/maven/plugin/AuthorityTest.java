@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.File;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Authority}.
+ * @since 1.0
+ */
+final class AuthorityTest {
+
+    /**
+     * Authority can create its key once and reuse it.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void reusesItsKey(@TempDir final Path temp) throws Exception {
+        final File file = temp.resolve("ca.jks").toFile();
+        final Algorithm alg = new Algorithm("EC", 256, "");
+        MatcherAssert.assertThat(
+            "authority is created again",
+            new Authority(file, "ca-password", alg, new Entropy())
+                .certificate(),
+            Matchers.equalTo(
+                new Authority(file, "ca-password", alg, new Entropy())
+                    .certificate()
+            )
+        );
+    }
+
+    /**
+     * Authority can make a certificate of a CA.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void makesCertificateOfAuthority(@TempDir final Path temp)
+        throws Exception {
+        MatcherAssert.assertThat(
+            "certificate is not of an authority",
+            new Authority(
+                temp.resolve("auth.jks").toFile(), "auth-password",
+                new Algorithm("EC", 256, ""), new Entropy()
+            ).certificate().getBasicConstraints(),
+            Matchers.greaterThanOrEqualTo(0)
+        );
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Batch}.
+ * @since 1.0
+ */
+final class BatchTest {
+
+    /**
+     * Batch can generate certificates of many hosts.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void generatesCertificatesOfHosts(@TempDir final Path temp)
+        throws Exception {
+        final File main = temp.resolve("keystore.jks").toFile();
+        final File own = temp.resolve("orders.jks").toFile();
+        final Keystore keystore = new Keystore(
+            "batch-password", false, new Algorithm("EC", 256, "")
+        );
+        keystore.generate(main);
+        final Cacerts truststore = Cacerts.minimal(
+            temp.resolve("cacerts.jks").toFile(), false
+        );
+        truststore.copy();
+        final Batch batch = keystore.batch(
+            Arrays.asList(
+                new Host(
+                    "orders", Arrays.asList("orders.local", "10.0.0.7"), own
+                ),
+                new Host("billing", Collections.emptyList(), null),
+                new Host("audit", Collections.emptyList(), null)
+            )
+        );
+        batch.generate(main, truststore);
+        MatcherAssert.assertThat(
+            "main keystore doesn't have all keys",
+            Collections.list(Jca.load(main, "batch-password").aliases()),
+            Matchers.containsInAnyOrder(Keytool.LOCALHOST, "billing", "audit")
+        );
+        MatcherAssert.assertThat(
+            "names of the host are wrong",
+            ((X509Certificate) Jca.load(own, "batch-password")
+                .getCertificate("orders")).getSubjectAlternativeNames()
+                .toString(),
+            Matchers.containsString("10.0.0.7")
+        );
+        final KeyStore trust = Jca.load(truststore.file(), Cacerts.STD_PWD);
+        MatcherAssert.assertThat(
+            "hosts are not trusted",
+            trust.isCertificateEntry("orders")
+                && trust.isCertificateEntry("billing")
+                && trust.isCertificateEntry("audit"),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "keys of hosts are not valid",
+            batch.valid(main),
+            Matchers.is(true)
+        );
+        final Properties props = new Properties();
+        batch.populate(props, main);
+        MatcherAssert.assertThat(
+            "own keystore is not published",
+            props.getProperty("jcabi.ssl.orders.keyStore"),
+            Matchers.equalTo(own.getAbsolutePath())
+        );
+    }
+
+    /**
+     * Batch can reject hosts with the same alias.
+     */
+    @Test
+    void rejectsDuplicateAliases() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Keystore("duplicate-password").batch(
+                Arrays.asList(
+                    new Host("Orders", Collections.emptyList(), null),
+                    new Host("orders", Collections.emptyList(), null)
+                )
+            ),
+            "duplicate alias is accepted"
+        );
+    }
+
+    /**
+     * Batch can tell that keys of hosts are missing.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void rejectsMissingKeys(@TempDir final Path temp) throws Exception {
+        final File main = temp.resolve("keystore.jks").toFile();
+        final Keystore keystore = new Keystore("missing-password");
+        keystore.generate(main);
+        MatcherAssert.assertThat(
+            "missing keys are valid",
+            keystore.batch(
+                Collections.singletonList(
+                    new Host("ghost", Collections.emptyList(), null)
+                )
+            ).valid(main),
+            Matchers.is(false)
+        );
+    }
+}
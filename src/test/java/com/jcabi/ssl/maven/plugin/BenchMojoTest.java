@@ -0,0 +1,49 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.util.Collections;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.project.MavenProject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link BenchMojo}.
+ * @since 1.0
+ */
+final class BenchMojoTest {
+
+    /**
+     * BenchMojo can refuse to measure without the keystore, which
+     * {@code keygen} generates.
+     */
+    @Test
+    void refusesToMeasureWithoutKeystore() {
+        Assertions.assertThrows(
+            MojoFailureException.class,
+            () -> new BenchMojo(new MavenProject()).execute(),
+            "bench cannot be refused without keystore"
+        );
+    }
+
+    /**
+     * BenchMojo can report an invalid algorithm in a readable way.
+     */
+    @Test
+    void reportsInvalidAlgorithm() {
+        final BenchMojo mojo = new BenchMojo(new MavenProject());
+        mojo.setAlgorithms(Collections.singletonList("RSA:big"));
+        MatcherAssert.assertThat(
+            "invalid algorithm cannot be reported",
+            Assertions.assertThrows(
+                MojoFailureException.class, mojo::execute
+            ).getMessage(),
+            Matchers.containsString("RSA:big")
+        );
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.util.Properties;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Bench}.
+ * @since 1.0
+ */
+final class BenchTest {
+
+    /**
+     * Bench can measure handshakes with and without resumption.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void measuresHandshakes() throws Exception {
+        final Bench bench = new Bench(
+            "memory", Contexts.context(new Properties()), 10, 1L << 16
+        );
+        for (final String protocol : new String[] {"TLSv1.2", "TLSv1.3"}) {
+            for (final boolean resume : new boolean[] {false, true}) {
+                MatcherAssert.assertThat(
+                    "handshakes cannot be measured",
+                    bench.run(protocol, resume).json(),
+                    Matchers.allOf(
+                        Matchers.containsString(
+                            String.format("\"protocol\":\"%s\"", protocol)
+                        ),
+                        Matchers.containsString("\"handshakes\":10,")
+                    )
+                );
+            }
+        }
+    }
+}
@@ -4,15 +4,22 @@
  */
 package com.jcabi.ssl.maven.plugin;
 
+import com.jcabi.log.Logger;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Properties;
+import java.util.TreeMap;
 import java.util.UUID;
 import org.apache.commons.io.FileUtils;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -33,11 +40,11 @@ final class CacertsTest {
     void importsCertificatesFromKeystore(@TempDir final Path temp)
         throws Exception {
         final File truststore = temp.resolve("cacerts.jks").toFile();
-        new Keystore("some-password").activate(
-            temp.resolve("keystore.jks").toFile()
-        );
+        final File keystore = temp.resolve("keystore.jks").toFile();
+        new Keystore("some-password").activate(keystore);
         final Cacerts cacerts = new Cacerts(truststore);
-        cacerts.imprt();
+        cacerts.copy();
+        cacerts.imprt(keystore, "some-password");
         MatcherAssert.assertThat(
             "localhost cannot be found in the trust store",
             new Keytool(truststore, "changeit").list(),
@@ -86,4 +93,146 @@ final class CacertsTest {
             Matchers.equalTo(original.length())
         );
     }
+
+    /**
+     * Cacerts converts JDK cacerts in-process to the same trust anchors
+     * as forked keytool does.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void convertsLikeForkedKeytool(@TempDir final Path temp)
+        throws Exception {
+        final File src = new File(
+            String.format(
+                "%s/lib/security/cacerts", System.getProperty("java.home")
+            )
+        ).toPath().toRealPath().toFile();
+        final File forked = temp.resolve("forked.jks").toFile();
+        final long start = System.nanoTime();
+        Cacerts.forked(src, forked);
+        final long fork = System.nanoTime() - start;
+        final File inproc = temp.resolve("inproc.jks").toFile();
+        final long middle = System.nanoTime();
+        Cacerts.convert(src, inproc);
+        final long jca = System.nanoTime() - middle;
+        Logger.info(
+            this,
+            "cacerts conversion: %[nano]s forked, %[nano]s in-process",
+            fork, jca
+        );
+        MatcherAssert.assertThat(
+            "in-process conversion cannot copy trust anchors as keytool",
+            CacertsTest.anchors(inproc),
+            Matchers.equalTo(CacertsTest.anchors(forked))
+        );
+    }
+
+    /**
+     * Cacerts can make a minimal trust store, with the generated
+     * certificate and allowed JDK certificates only.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void makesMinimalTrustStore(@TempDir final Path temp) throws Exception {
+        final File keystore = temp.resolve("keystore.jks").toFile();
+        new Keystore("minimal-password").activate(keystore);
+        final File full = temp.resolve("full.jks").toFile();
+        new Cacerts(full).copy();
+        final File truststore = temp.resolve("minimal.jks").toFile();
+        final Cacerts cacerts = Cacerts.minimal(
+            truststore, false, Collections.singletonList(".*digicert.*")
+        );
+        cacerts.copy();
+        cacerts.imprt(keystore, "minimal-password");
+        final KeyStore store = Jca.load(truststore, Cacerts.STD_PWD);
+        MatcherAssert.assertThat(
+            "trust store is not minimal",
+            store.size(),
+            Matchers.lessThan(Jca.load(full, Cacerts.STD_PWD).size())
+        );
+        MatcherAssert.assertThat(
+            "unexpected aliases in minimal trust store",
+            Collections.list(store.aliases()),
+            Matchers.everyItem(
+                Matchers.anyOf(
+                    Matchers.containsString("digicert"),
+                    Matchers.equalTo(Keytool.LOCALHOST)
+                )
+            )
+        );
+    }
+
+    /**
+     * Cacerts can refuse to make a minimal trust store of an empty list
+     * of aliases, which would keep none of them.
+     * @param temp Temporary directory
+     */
+    @Test
+    void rejectsEmptyListOfAliases(@TempDir final Path temp) {
+        final File truststore = temp.resolve("empty.jks").toFile();
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Cacerts.minimal(truststore, false, Collections.emptyList()),
+            "empty list of aliases cannot be rejected"
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> Cacerts.minimal(
+                truststore, false, Collections.singletonList(" ")
+            ),
+            "empty alias cannot be rejected"
+        );
+    }
+
+    /**
+     * Cacerts can refresh a trust store, removing anchors which are gone
+     * from the JDK and keeping local certificates.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void refreshesTrustStoreIncrementally(@TempDir final Path temp)
+        throws Exception {
+        final File keystore = temp.resolve("keystore.jks").toFile();
+        new Keystore("refresh-password").activate(keystore);
+        final File truststore = temp.resolve("refreshed.jks").toFile();
+        final Cacerts cacerts = new Cacerts(truststore);
+        cacerts.copy();
+        cacerts.imprt(keystore, "refresh-password");
+        final KeyStore stale = Jca.load(truststore, Cacerts.STD_PWD);
+        stale.setCertificateEntry(
+            "gone-from-jdk", stale.getCertificate(Keytool.LOCALHOST)
+        );
+        Jca.save(stale, truststore, Cacerts.STD_PWD);
+        cacerts.refresh(Collections.singletonList(Keytool.LOCALHOST));
+        final KeyStore store = Jca.load(truststore, Cacerts.STD_PWD);
+        MatcherAssert.assertThat(
+            "stale anchor is not removed",
+            store.containsAlias("gone-from-jdk"),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "local certificate is not kept",
+            store.containsAlias(Keytool.LOCALHOST),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Trusted certificates of the truststore, by their aliases.
+     * @param file The truststore
+     * @return Certificates by aliases
+     * @throws Exception If something is wrong
+     */
+    private static Map<String, Certificate> anchors(final File file)
+        throws Exception {
+        final KeyStore store = Jca.load(file, Cacerts.STD_PWD);
+        final Map<String, Certificate> anchors = new TreeMap<>();
+        for (final String alias : Collections.list(store.aliases())) {
+            anchors.put(alias, store.getCertificate(alias));
+        }
+        return anchors;
+    }
 }
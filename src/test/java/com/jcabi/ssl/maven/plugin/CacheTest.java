@@ -0,0 +1,177 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.File;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Cache}.
+ * @since 1.0
+ */
+final class CacheTest {
+
+    /**
+     * Password of stores.
+     */
+    private static final String PWD = "cache-password";
+
+    /**
+     * Cache can return what was stored.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void fetchesStoredEntry(@TempDir final Path temp) throws Exception {
+        final File keystore = temp.resolve("keystore.jks").toFile();
+        final File cacerts = temp.resolve("cacerts.jks").toFile();
+        CacheTest.generate(keystore, cacerts);
+        final Cache cache = new Cache(temp.resolve("cache").toFile(), 2);
+        cache.store("abc", keystore, cacerts);
+        final File copy = temp.resolve("copy/keystore.jks").toFile();
+        cache.fetch(
+            "abc", copy, temp.resolve("copy/cacerts.jks").toFile(),
+            new Keystore(CacheTest.PWD)
+        );
+        MatcherAssert.assertThat(
+            "keystore cannot be taken from cache",
+            FileUtils.readFileToByteArray(copy),
+            Matchers.equalTo(FileUtils.readFileToByteArray(keystore))
+        );
+    }
+
+    /**
+     * Cache can link stores instead of copying them.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void linksStoresKeepingThemWritable(@TempDir final Path temp)
+        throws Exception {
+        Assumptions.assumeTrue(
+            FileSystems.getDefault().supportedFileAttributeViews()
+                .contains("posix")
+        );
+        final File keystore = temp.resolve("keystore.jks").toFile();
+        final File cacerts = temp.resolve("cacerts.jks").toFile();
+        CacheTest.generate(keystore, cacerts);
+        final Cache cache = new Cache(temp.resolve("cache").toFile(), 2, true);
+        cache.store("linked", keystore, cacerts);
+        final File link = temp.resolve("link/cacerts.jks").toFile();
+        cache.fetch(
+            "linked", temp.resolve("link/keystore.jks").toFile(), link,
+            new Keystore(CacheTest.PWD)
+        );
+        MatcherAssert.assertThat(
+            "truststore cannot be linked",
+            Files.isSameFile(
+                link.toPath(), temp.resolve("cache/linked/cacerts.jks")
+            ),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "linked truststore cannot stay writable",
+            Files.getPosixFilePermissions(cacerts.toPath()),
+            Matchers.hasItem(PosixFilePermission.OWNER_WRITE)
+        );
+    }
+
+    /**
+     * Cache can evict least recently used entries.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void evictsLeastRecentlyUsedEntries(@TempDir final Path temp)
+        throws Exception {
+        final File keystore = temp.resolve("keystore.jks").toFile();
+        final File cacerts = temp.resolve("cacerts.jks").toFile();
+        CacheTest.generate(keystore, cacerts);
+        final File dir = temp.resolve("cache").toFile();
+        final Cache cache = new Cache(dir, 2);
+        cache.store("first", keystore, cacerts);
+        new File(dir, "first").setLastModified(0L);
+        cache.store("second", keystore, cacerts);
+        cache.store("third", keystore, cacerts);
+        MatcherAssert.assertThat(
+            "least recently used entry cannot be evicted",
+            cache.fetch(
+                "first", temp.resolve("first/keystore.jks").toFile(),
+                temp.resolve("first/cacerts.jks").toFile(),
+                new Keystore(CacheTest.PWD)
+            ),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Cache can delete an entry with expired certificate.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void deletesExpiredEntry(@TempDir final Path temp) throws Exception {
+        final File keystore = temp.resolve("keystore.jks").toFile();
+        final File cacerts = temp.resolve("cacerts.jks").toFile();
+        CacheTest.generate(keystore, cacerts);
+        final Algorithm alg = new Algorithm("EC", 0, "");
+        final KeyStore expired = KeyStore.getInstance("jks");
+        expired.load(null, null);
+        expired.setEntry(
+            Keytool.LOCALHOST,
+            Jca.entry(
+                new X509(
+                    "CN=localhost", 1L, alg,
+                    System.currentTimeMillis() - TimeUnit.DAYS.toMillis(30L)
+                ),
+                alg, new SecureRandom()
+            ),
+            new KeyStore.PasswordProtection(CacheTest.PWD.toCharArray())
+        );
+        final File dir = temp.resolve("cache").toFile();
+        final File entry = new File(dir, "expired");
+        Jca.save(expired, new File(entry, "keystore.jks"), CacheTest.PWD);
+        FileUtils.copyFile(cacerts, new File(entry, "cacerts.jks"));
+        MatcherAssert.assertThat(
+            "expired entry cannot be rejected",
+            new Cache(dir, 2).fetch(
+                "expired", keystore, cacerts, new Keystore(CacheTest.PWD)
+            ),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "expired entry cannot be deleted",
+            entry.exists(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Generate keystore and truststore that trusts it.
+     * @param keystore Where to save the keystore
+     * @param cacerts Where to save the truststore
+     * @throws Exception If something is wrong
+     */
+    private static void generate(final File keystore, final File cacerts)
+        throws Exception {
+        final Keystore store = new Keystore(CacheTest.PWD);
+        store.generate(keystore);
+        final Cacerts truststore = Cacerts.minimal(cacerts, false);
+        truststore.copy();
+        store.imprt(keystore, truststore);
+    }
+}
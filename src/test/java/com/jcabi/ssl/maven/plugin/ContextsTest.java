@@ -0,0 +1,115 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLServerSocket;
+import javax.net.ssl.SSLSocket;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Contexts}.
+ * @since 1.0
+ */
+final class ContextsTest {
+
+    /**
+     * Contexts can make a context in memory, which talks to itself.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void makesContextInMemory() throws Exception {
+        final SSLContext context = Contexts.context(new Properties());
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try (SSLServerSocket server = (SSLServerSocket) context
+            .getServerSocketFactory()
+            .createServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            final Future<Integer> read = exec.submit(
+                () -> {
+                    try (SSLSocket sock = (SSLSocket) server.accept();
+                        InputStream input = sock.getInputStream()) {
+                        return input.read();
+                    }
+                }
+            );
+            try (SSLSocket client = (SSLSocket) context.getSocketFactory()
+                .createSocket(
+                    InetAddress.getLoopbackAddress(), server.getLocalPort()
+                );
+                OutputStream output = client.getOutputStream()) {
+                output.write(42);
+                output.flush();
+                MatcherAssert.assertThat(
+                    "byte cannot be sent over TLS",
+                    read.get(1L, TimeUnit.MINUTES),
+                    Matchers.equalTo(42)
+                );
+            }
+        } finally {
+            exec.shutdownNow();
+        }
+    }
+
+    /**
+     * Contexts can make a context of the stores only once.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void cachesContextOfStores(@TempDir final Path temp) throws Exception {
+        final File keystore = temp.resolve("keystore.jks").toFile();
+        final Keystore store = new Keystore("context-password");
+        store.activate(keystore);
+        final Cacerts cacerts = new Cacerts(
+            temp.resolve("cacerts.jks").toFile()
+        );
+        cacerts.copy();
+        cacerts.imprt(keystore, "context-password");
+        final Properties props = new Properties();
+        store.populate(props, keystore);
+        cacerts.populate(props);
+        MatcherAssert.assertThat(
+            "context cannot be reused",
+            Contexts.context(props),
+            Matchers.sameInstance(Contexts.context(props))
+        );
+    }
+
+    /**
+     * Contexts can make a new context when the stores are regenerated.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void remakesContextOfRegeneratedStores(@TempDir final Path temp)
+        throws Exception {
+        final File keystore = temp.resolve("keystore.jks").toFile();
+        final Keystore store = new Keystore("regenerated-password");
+        store.generate(keystore);
+        final Properties props = new Properties();
+        store.populate(props, keystore);
+        final SSLContext before = Contexts.context(props);
+        store.generate(keystore);
+        keystore.setLastModified(keystore.lastModified() + 1000L);
+        MatcherAssert.assertThat(
+            "context of old key cannot be forgotten",
+            Contexts.context(props),
+            Matchers.not(Matchers.sameInstance(before))
+        );
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.maven.project.MavenProject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Demand}.
+ * @since 1.0
+ */
+final class DemandTest {
+
+    /**
+     * Demand can find tests in the build.
+     */
+    @Test
+    void findsTests() {
+        MatcherAssert.assertThat(
+            "tests cannot be found",
+            new Demand(
+                Arrays.asList("clean", "install"), new Properties()
+            ).exists(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Demand can see that the build stops before tests.
+     */
+    @Test
+    void ignoresBuildWithoutTests() {
+        MatcherAssert.assertThat(
+            "build without tests cannot be ignored",
+            new Demand(
+                Arrays.asList("clean", "test-compile"), new Properties()
+            ).exists(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Demand can see that tests are skipped.
+     */
+    @Test
+    void ignoresSkippedTests() {
+        final Properties props = new Properties();
+        props.put("skipTests", "true");
+        MatcherAssert.assertThat(
+            "skipped tests cannot be ignored",
+            new Demand(Collections.singletonList("deploy"), props).exists(),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Demand can find unit tests when only integration tests are skipped.
+     */
+    @Test
+    void findsUnitTestsWhenItsSkipped() {
+        final Properties props = new Properties();
+        props.put("skipITs", "");
+        MatcherAssert.assertThat(
+            "unit tests cannot be found",
+            new Demand(Collections.singletonList("verify"), props).exists(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Demand can find goals of plugins started directly.
+     */
+    @Test
+    void findsPluginGoals() {
+        MatcherAssert.assertThat(
+            "plugin goal cannot be found",
+            new Demand(
+                Collections.singletonList("jetty:run"), new Properties()
+            ).exists(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Demand can do the deferred generation only once.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void settlesDeferredGenerationOnce() throws Exception {
+        final MavenProject project = new MavenProject();
+        final AtomicInteger done = new AtomicInteger();
+        project.setContextValue(
+            Demand.class.getName(), (Parallel.Step) done::incrementAndGet
+        );
+        Demand.settle(project);
+        Demand.settle(project);
+        MatcherAssert.assertThat(
+            "deferred generation cannot be done once",
+            done.get(),
+            Matchers.equalTo(1)
+        );
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import javax.security.auth.x500.X500Principal;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.ietf.jgss.Oid;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Der}, which checks its bytes with JDK.
+ * @since 1.0
+ */
+final class DerTest {
+
+    /**
+     * Der can encode object identifiers, which JDK decodes back.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void encodesObjectIdentifiers() throws Exception {
+        final String[] oids = {
+            "1.2.840.113549.1.1.11",
+            "1.2.840.10045.4.3.3",
+            "1.3.101.112",
+            "1.3.6.1.4.1.42.2.17.1.1",
+            "2.5.29.17",
+            "2.999.4294967296",
+        };
+        for (final String oid : oids) {
+            MatcherAssert.assertThat(
+                String.format("OID %s is encoded wrong", oid),
+                new Oid(Der.oid(oid)).toString(),
+                Matchers.equalTo(oid)
+            );
+        }
+    }
+
+    /**
+     * Der can encode lengths in short and long forms, in the same bytes
+     * JDK encodes distinguished names with.
+     */
+    @Test
+    void encodesLengthsAsJdk() {
+        for (final int len : new int[] {1, 127, 128, 255, 256, 65_536}) {
+            final char[] chars = new char[len];
+            Arrays.fill(chars, 'a');
+            final String value = new String(chars);
+            MatcherAssert.assertThat(
+                String.format("length %d is encoded differently", len),
+                Der.sequence(
+                    Der.tlv(
+                        0x31,
+                        Der.sequence(
+                            Der.oid("2.5.4.3"),
+                            Der.tlv(
+                                0x13, value.getBytes(StandardCharsets.US_ASCII)
+                            )
+                        )
+                    )
+                ),
+                Matchers.equalTo(
+                    new X500Principal(String.format("CN=%s", value))
+                        .getEncoded()
+                )
+            );
+        }
+    }
+
+    /**
+     * Der can encode integers, with and without a leading zero byte,
+     * bit strings and NULL, in the same bytes JDK encodes RSA public
+     * keys with.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void encodesIntegersAsJdk() throws Exception {
+        final KeyPairGenerator gen = KeyPairGenerator.getInstance("RSA");
+        for (final int bits : new int[] {512, 520, 1024, 2048}) {
+            gen.initialize(bits);
+            final RSAPublicKey key = (RSAPublicKey) gen.generateKeyPair()
+                .getPublic();
+            MatcherAssert.assertThat(
+                String.format("RSA-%d key is encoded differently", bits),
+                Der.sequence(
+                    Der.sequence(Der.oid("1.2.840.113549.1.1.1"), Der.nul()),
+                    Der.bits(
+                        Der.sequence(
+                            Der.integer(key.getModulus()),
+                            Der.integer(key.getPublicExponent())
+                        )
+                    )
+                ),
+                Matchers.equalTo(key.getEncoded())
+            );
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.IOException;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Entropy}.
+ * @since 1.0
+ */
+final class EntropyTest {
+
+    /**
+     * Entropy can share one seeded instance per algorithm.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void sharesSeededInstance() throws Exception {
+        MatcherAssert.assertThat(
+            "instance is not shared",
+            new Entropy("DRBG").random(),
+            Matchers.sameInstance(new Entropy(" DRBG ").random())
+        );
+    }
+
+    /**
+     * Entropy can make an instance of the requested algorithm.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void makesRequestedAlgorithm() throws Exception {
+        MatcherAssert.assertThat(
+            "algorithm is wrong",
+            new Entropy("SHA1PRNG").random().getAlgorithm(),
+            Matchers.equalTo("SHA1PRNG")
+        );
+    }
+
+    /**
+     * Entropy can point forked JVM to a non-blocking source.
+     */
+    @Test
+    void makesOptionsOfForkedJvm() {
+        MatcherAssert.assertThat(
+            "non-blocking source is not configured",
+            new Entropy("NativePRNGNonBlocking").options(),
+            Matchers.containsString("/dev/urandom")
+        );
+        MatcherAssert.assertThat(
+            "blocking source is overridden",
+            new Entropy("NativePRNGBlocking").options(),
+            Matchers.emptyString()
+        );
+        MatcherAssert.assertThat(
+            "default source is overridden",
+            new Entropy().options(),
+            Matchers.emptyString()
+        );
+    }
+
+    /**
+     * Entropy can reject unknown algorithm.
+     */
+    @Test
+    void rejectsUnknownAlgorithm() {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Entropy("NoSuchPRNG").random(),
+            "unknown algorithm is accepted"
+        );
+    }
+
+    /**
+     * Entropy can make the same bytes from the same seed.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void makesSameBytesFromSeed() throws Exception {
+        final byte[] first = new byte[32];
+        Entropy.seeded("some seed").random().nextBytes(first);
+        final byte[] second = new byte[32];
+        Entropy.seeded("some seed").random().nextBytes(second);
+        MatcherAssert.assertThat(
+            "bytes are different",
+            second,
+            Matchers.equalTo(first)
+        );
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyFactory;
+import java.security.KeyStore;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.util.Base64;
+import java.util.Properties;
+import org.apache.commons.io.FileUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Export}.
+ * @since 1.0
+ */
+final class ExportTest {
+
+    /**
+     * Export can write the key and the certificates in all formats.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void exportsAllFormats(@TempDir final Path temp) throws Exception {
+        final File keystore = temp.resolve("keystore.jks").toFile();
+        new Keystore("export-password").activate(keystore);
+        final File truststore = temp.resolve("cacerts.jks").toFile();
+        final Cacerts cacerts = new Cacerts(truststore);
+        cacerts.copy();
+        cacerts.imprt(keystore, "export-password");
+        final Properties props = new Properties();
+        new Export(keystore, "export-password", truststore).write(props);
+        final KeyStore pkcs = KeyStore.getInstance("pkcs12");
+        try (InputStream input = Files.newInputStream(
+            new File(props.getProperty(Export.PKCS12)).toPath()
+        )) {
+            pkcs.load(input, "export-password".toCharArray());
+        }
+        MatcherAssert.assertThat(
+            "key cannot be found in PKCS12 keystore",
+            pkcs.isKeyEntry(Keytool.LOCALHOST),
+            Matchers.is(true)
+        );
+        final String pem = FileUtils.readFileToString(
+            new File(props.getProperty(Export.PRIVATE)),
+            StandardCharsets.US_ASCII
+        );
+        MatcherAssert.assertThat(
+            "private key cannot be read from PKCS#8 PEM",
+            KeyFactory.getInstance("RSA").generatePrivate(
+                new PKCS8EncodedKeySpec(
+                    Base64.getMimeDecoder().decode(
+                        pem.replaceAll("-----[A-Z ]+-----", "")
+                    )
+                )
+            ).getEncoded(),
+            Matchers.equalTo(
+                pkcs.getKey(
+                    Keytool.LOCALHOST, "export-password".toCharArray()
+                ).getEncoded()
+            )
+        );
+        MatcherAssert.assertThat(
+            "certificate cannot be written as PEM",
+            FileUtils.readFileToString(
+                new File(props.getProperty(Export.CERT)),
+                StandardCharsets.US_ASCII
+            ),
+            Matchers.startsWith("-----BEGIN CERTIFICATE-----\n")
+        );
+        MatcherAssert.assertThat(
+            "bundle cannot contain all trusted certificates",
+            FileUtils.readFileToString(
+                new File(props.getProperty(Export.BUNDLE)),
+                StandardCharsets.US_ASCII
+            ).split("-----BEGIN CERTIFICATE-----").length - 1,
+            Matchers.equalTo(Jca.load(truststore, Cacerts.STD_PWD).size())
+        );
+    }
+
+    /**
+     * Export can leave files alone, when they are newer than the stores.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void skipsFreshFiles(@TempDir final Path temp) throws Exception {
+        final File keystore = temp.resolve("keystore.jks").toFile();
+        new Keystore("fresh-password").activate(keystore);
+        final File truststore = temp.resolve("cacerts.jks").toFile();
+        new Cacerts(truststore).copy();
+        final Export export = new Export(
+            keystore, "fresh-password", truststore
+        );
+        export.write(new Properties());
+        MatcherAssert.assertThat(
+            "fresh files cannot be skipped",
+            export.write(new Properties()),
+            Matchers.equalTo(0L)
+        );
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.File;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Fingerprint}.
+ * @since 1.0
+ */
+final class FingerprintTest {
+
+    /**
+     * Fingerprint can be recorded and checked later.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void recordsItself(@TempDir final Path temp) throws Exception {
+        final File file = temp.resolve("keystore.jks.sha256").toFile();
+        new Fingerprint("a", "b").record(file);
+        MatcherAssert.assertThat(
+            "fingerprint is not recorded",
+            new Fingerprint("a", "b").recorded(file),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "another fingerprint is recorded",
+            new Fingerprint("a", "c").recorded(file),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Fingerprint is not recorded in an absent file.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void isNotRecordedInAbsentFile(@TempDir final Path temp)
+        throws Exception {
+        MatcherAssert.assertThat(
+            "fingerprint is recorded in absent file",
+            new Fingerprint("x").recorded(temp.resolve("none").toFile()),
+            Matchers.is(false)
+        );
+    }
+}
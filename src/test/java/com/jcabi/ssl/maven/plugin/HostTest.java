@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.File;
+import java.util.Collections;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Host}.
+ * @since 1.0
+ */
+final class HostTest {
+
+    /**
+     * Host can use its alias as the only name.
+     */
+    @Test
+    void usesAliasAsName() {
+        MatcherAssert.assertThat(
+            "alias is not the name",
+            new Host("Billing", Collections.emptyList(), null).names(),
+            Matchers.contains("billing")
+        );
+    }
+
+    /**
+     * Host can use the main keystore, unless it has its own.
+     */
+    @Test
+    void usesMainKeystore() {
+        final File main = new File("main.jks");
+        MatcherAssert.assertThat(
+            "main keystore is not used",
+            new Host("audit", Collections.emptyList(), null).keystore(main),
+            Matchers.equalTo(main)
+        );
+    }
+
+    /**
+     * Host can be compared with other hosts by its configuration.
+     */
+    @Test
+    void comparesByConfiguration() {
+        MatcherAssert.assertThat(
+            "hosts with different aliases are equal",
+            new Host("orders", Collections.emptyList(), null),
+            Matchers.not(
+                Matchers.equalTo(
+                    new Host("billing", Collections.emptyList(), null)
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "hosts with the same configuration are not equal",
+            new Host("orders", Collections.emptyList(), null),
+            Matchers.equalTo(
+                new Host("orders", Collections.emptyList(), null)
+            )
+        );
+    }
+
+    /**
+     * Host can reject the alias of the main key.
+     */
+    @Test
+    void rejectsAliasOfMainKey() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Host("localhost", Collections.emptyList(), null).alias(),
+            "alias of the main key is accepted"
+        );
+    }
+}
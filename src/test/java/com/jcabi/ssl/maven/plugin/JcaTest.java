@@ -0,0 +1,93 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.File;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Jca}.
+ * @since 1.0
+ */
+final class JcaTest {
+
+    /**
+     * Jca can generate a keystore that keytool understands.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void generatesKeystoreReadableByKeytool(@TempDir final Path temp)
+        throws Exception {
+        final File file = temp.resolve("keystore.jks").toFile();
+        new Jca(file, "some-password").genkey();
+        MatcherAssert.assertThat(
+            "localhost cannot be found in the keystore",
+            new Keytool(file, "some-password").list(),
+            Matchers.containsString("localhost")
+        );
+    }
+
+    /**
+     * Jca can list content of a keystore.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void listsKeystore(@TempDir final Path temp) throws Exception {
+        final Jca jca = new Jca(
+            temp.resolve("keystore.jks").toFile(), "other-password"
+        );
+        jca.genkey();
+        MatcherAssert.assertThat(
+            "alias cannot be found in the keystore",
+            jca.list(),
+            Matchers.containsString("Alias name: localhost")
+        );
+    }
+
+    /**
+     * Jca can generate an elliptic curve key that keytool understands.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void generatesEllipticCurveKey(@TempDir final Path temp)
+        throws Exception {
+        final File file = temp.resolve("ec.jks").toFile();
+        new Jca(file, "ec-password").genkey(new Algorithm("EC", 0, ""));
+        MatcherAssert.assertThat(
+            "EC signature cannot be found in the keystore",
+            new Keytool(file, "ec-password").list(),
+            Matchers.containsString("localhost")
+        );
+    }
+
+    /**
+     * Jca can reject a certificate that expires too soon.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void rejectsCertificateExpiringSoon(@TempDir final Path temp)
+        throws Exception {
+        final Jca jca = new Jca(temp.resolve("soon.jks").toFile(), "soon");
+        jca.genkey(new Algorithm("EC", 0, ""));
+        MatcherAssert.assertThat(
+            "certificate valid for a year",
+            jca.valid(365L),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "certificate is not valid for a week",
+            jca.valid(7L),
+            Matchers.is(true)
+        );
+    }
+}
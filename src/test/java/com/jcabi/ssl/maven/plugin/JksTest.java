@@ -0,0 +1,287 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.util.Collections;
+import java.util.StringJoiner;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Jks}.
+ * @since 1.0
+ */
+final class JksTest {
+
+    /**
+     * Jks can rewrite a keystore, which JDK still opens.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void keepsKeyReadable(@TempDir final Path temp) throws Exception {
+        final File file = temp.resolve("readable.jks").toFile();
+        new Jca(file, "jks-password").genkey(new Algorithm("EC", 256, ""));
+        final KeyStore before = Jca.load(file, "jks-password");
+        new Jks(file, "jks-password").normalize();
+        final KeyStore after = Jca.load(file, "jks-password");
+        MatcherAssert.assertThat(
+            "key is different",
+            after.getKey(Keytool.LOCALHOST, "jks-password".toCharArray())
+                .getEncoded(),
+            Matchers.equalTo(
+                before.getKey(Keytool.LOCALHOST, "jks-password".toCharArray())
+                    .getEncoded()
+            )
+        );
+        MatcherAssert.assertThat(
+            "creation date is not fixed",
+            after.getCreationDate(Keytool.LOCALHOST).getTime(),
+            Matchers.equalTo(Jks.EPOCH)
+        );
+    }
+
+    /**
+     * Jks can make the same bytes from the same entries.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void makesSameBytes(@TempDir final Path temp) throws Exception {
+        final File file = temp.resolve("same.jks").toFile();
+        new Jca(file, "same-password").genkey(new Algorithm("EC", 256, ""));
+        final Jks jks = new Jks(file, "same-password");
+        jks.normalize();
+        final byte[] first = Files.readAllBytes(file.toPath());
+        Thread.sleep(10L);
+        jks.normalize();
+        MatcherAssert.assertThat(
+            "bytes are different",
+            Files.readAllBytes(file.toPath()),
+            Matchers.equalTo(first)
+        );
+    }
+
+    /**
+     * Jks can rewrite keystores of all algorithms, which JDK opens and
+     * keytool lists the same way as JDK reads them.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void writesKeystoresThatJdkOpens(@TempDir final Path temp)
+        throws Exception {
+        final Algorithm[] algs = {
+            new Algorithm("RSA", 2048, ""),
+            new Algorithm("EC", 256, ""),
+            new Algorithm("EC", 384, ""),
+            new Algorithm("Ed25519", 0, ""),
+        };
+        for (int idx = 0; idx < algs.length; ++idx) {
+            final Algorithm alg = algs[idx];
+            final File file = temp.resolve(
+                String.format("store-%d.jks", idx)
+            ).toFile();
+            new Jca(file, "jdk-password").genkey(
+                alg, new SecureRandom(), Jks.EPOCH
+            );
+            new Jks(file, "jdk-password").normalize();
+            final KeyStore store = JksTest.open(file, "jdk-password");
+            final PrivateKey key = (PrivateKey) store.getKey(
+                Keytool.LOCALHOST, "jdk-password".toCharArray()
+            );
+            final byte[] data = JksTest.class.getName().getBytes(
+                StandardCharsets.UTF_8
+            );
+            final Signature sign = Signature.getInstance(alg.signature());
+            sign.initSign(key);
+            sign.update(data);
+            final byte[] signature = sign.sign();
+            final Signature verify = Signature.getInstance(alg.signature());
+            verify.initVerify(store.getCertificate(Keytool.LOCALHOST));
+            verify.update(data);
+            MatcherAssert.assertThat(
+                String.format("%s key doesn't match its certificate", alg),
+                verify.verify(signature),
+                Matchers.is(true)
+            );
+            JksTest.matchKeytool(file, "jdk-password", store);
+        }
+    }
+
+    /**
+     * Jks can rewrite a keystore with a chain of certificates, issued
+     * by an authority, which JDK opens and keytool lists.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void writesChainsThatJdkOpens(@TempDir final Path temp)
+        throws Exception {
+        final Algorithm alg = new Algorithm("EC", 256, "");
+        final KeyStore.PrivateKeyEntry issuer = Jca.entry(
+            new X509("CN=authority", 1L, alg).authority(), alg,
+            new SecureRandom()
+        );
+        final File file = temp.resolve("chain.jks").toFile();
+        new Jca(file, "chain-password").issue(
+            alg, new SecureRandom(), Jks.EPOCH, issuer
+        );
+        new Jks(file, "chain-password").normalize();
+        final KeyStore store = JksTest.open(file, "chain-password");
+        final Certificate[] chain = store.getCertificateChain(
+            Keytool.LOCALHOST
+        );
+        MatcherAssert.assertThat(
+            "chain is broken",
+            chain,
+            Matchers.arrayWithSize(2)
+        );
+        chain[0].verify(chain[1].getPublicKey());
+        MatcherAssert.assertThat(
+            "keytool lists chain differently",
+            JksTest.matchKeytool(file, "chain-password", store),
+            Matchers.allOf(
+                Matchers.containsString("Certificate chain length: 2"),
+                Matchers.containsString(
+                    String.format("SHA256: %s", JksTest.fingerprint(chain[1]))
+                )
+            )
+        );
+    }
+
+    /**
+     * Jks can rewrite a truststore, which JDK opens and keytool lists
+     * with the same trusted certificates.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void writesTruststoresThatJdkOpens(@TempDir final Path temp)
+        throws Exception {
+        final File keystore = temp.resolve("keystore.jks").toFile();
+        new Jca(keystore, "trust-password").genkey(
+            new Algorithm("EC", 256, ""), new SecureRandom(), Jks.EPOCH
+        );
+        final File file = temp.resolve("cacerts.jks").toFile();
+        final Cacerts cacerts = Cacerts.minimal(
+            file, false, Collections.singletonList(".*digicert.*")
+        );
+        cacerts.copy();
+        cacerts.imprt(keystore, "trust-password");
+        final KeyStore before = Jca.load(file, Cacerts.STD_PWD);
+        new Jks(file, Cacerts.STD_PWD).normalize();
+        final KeyStore after = JksTest.open(file, Cacerts.STD_PWD);
+        MatcherAssert.assertThat(
+            "aliases are different",
+            Collections.list(after.aliases()),
+            Matchers.containsInAnyOrder(
+                Collections.list(before.aliases()).toArray()
+            )
+        );
+        for (final String alias : Collections.list(before.aliases())) {
+            MatcherAssert.assertThat(
+                String.format("certificate %s is different", alias),
+                after.getCertificate(alias),
+                Matchers.equalTo(before.getCertificate(alias))
+            );
+        }
+        MatcherAssert.assertThat(
+            "keytool lists trusted certificates differently",
+            JksTest.matchKeytool(file, Cacerts.STD_PWD, after),
+            Matchers.containsString("Entry type: trustedCertEntry")
+        );
+    }
+
+    /**
+     * Open a keystore with JDK only, without any help from the plugin.
+     * @param file The file
+     * @param pwd Its password
+     * @return The keystore
+     * @throws Exception If fails
+     */
+    private static KeyStore open(final File file, final String pwd)
+        throws Exception {
+        final KeyStore store = KeyStore.getInstance("JKS");
+        try (InputStream input = Files.newInputStream(file.toPath())) {
+            store.load(input, pwd.toCharArray());
+        }
+        return store;
+    }
+
+    /**
+     * Make sure keytool lists every entry of the keystore, as JDK
+     * reads it.
+     * @param file The file
+     * @param pwd Its password
+     * @param store The keystore, as JDK reads it
+     * @return Output of {@code keytool -list -v}
+     * @throws Exception If fails
+     */
+    private static String matchKeytool(final File file, final String pwd,
+        final KeyStore store) throws Exception {
+        final String out = new Keytool(file, pwd).list();
+        MatcherAssert.assertThat(
+            "keytool counts entries differently",
+            out,
+            Matchers.containsString(
+                String.format("Your keystore contains %d ", store.size())
+            )
+        );
+        for (final String alias : Collections.list(store.aliases())) {
+            final X509Certificate cert =
+                (X509Certificate) store.getCertificate(alias);
+            MatcherAssert.assertThat(
+                String.format("keytool lists %s differently", alias),
+                out,
+                Matchers.allOf(
+                    Matchers.containsString(
+                        String.format("Alias name: %s", alias)
+                    ),
+                    Matchers.containsString(
+                        String.format("SHA256: %s", JksTest.fingerprint(cert))
+                    ),
+                    Matchers.containsString(
+                        String.format(
+                            "Signature algorithm name: %s",
+                            cert.getSigAlgName()
+                        )
+                    )
+                )
+            );
+        }
+        return out;
+    }
+
+    /**
+     * SHA-256 fingerprint of a certificate, as keytool prints it.
+     * @param cert The certificate
+     * @return Fingerprint, like {@code AB:CD:...}
+     * @throws Exception If fails
+     */
+    private static String fingerprint(final Certificate cert)
+        throws Exception {
+        final StringJoiner hex = new StringJoiner(":");
+        for (final byte octet
+            : MessageDigest.getInstance("SHA-256").digest(cert.getEncoded())) {
+            hex.add(String.format("%02X", octet));
+        }
+        return hex.toString();
+    }
+}
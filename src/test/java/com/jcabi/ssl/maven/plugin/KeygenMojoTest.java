@@ -5,11 +5,20 @@
 package com.jcabi.ssl.maven.plugin;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Properties;
+import org.apache.commons.io.FileUtils;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.DefaultMavenExecutionResult;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.DefaultRepositorySystemSession;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 /**
@@ -64,4 +73,159 @@ final class KeygenMojoTest {
             Matchers.notNullValue()
         );
     }
+
+    /**
+     * KeygenMojo can share keystores of hosts with all modules, in
+     * aggregate mode.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void sharesHostsInAggregateMode(@TempDir final Path temp)
+        throws Exception {
+        final MavenSession session = KeygenMojoTest.session();
+        final Keystore keystore = new Keystore("aggregate-password");
+        final MavenProject[] projects = new MavenProject[2];
+        for (int idx = 0; idx < projects.length; ++idx) {
+            final File dir = temp.resolve(String.format("module-%d", idx))
+                .toFile();
+            projects[idx] = new MavenProject();
+            final KeygenMojo mojo = new KeygenMojo(
+                projects[idx], keystore,
+                Cacerts.minimal(
+                    new File(dir, "cacerts.jks"), false
+                )
+            );
+            mojo.setSession(session);
+            mojo.setAggregate(true);
+            mojo.setKeystore(new File(dir, "keystore.jks"));
+            mojo.setHosts(
+                Arrays.asList(
+                    new Host(
+                        "orders", Collections.emptyList(),
+                        new File(dir, "orders.jks")
+                    ),
+                    new Host("billing", Collections.emptyList(), null)
+                )
+            );
+            mojo.execute();
+        }
+        final String orders = projects[1].getProperties().getProperty(
+            "jcabi.ssl.orders.keyStore"
+        );
+        MatcherAssert.assertThat(
+            "keystore of host cannot be published in another module",
+            new File(orders),
+            Matchers.equalTo(
+                temp.resolve("module-1/orders.jks").toFile().getAbsoluteFile()
+            )
+        );
+        MatcherAssert.assertThat(
+            "key of host cannot be shared with another module",
+            FileUtils.readFileToByteArray(new File(orders)),
+            Matchers.equalTo(
+                FileUtils.readFileToByteArray(
+                    temp.resolve("module-0/orders.jks").toFile()
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "key of host in main keystore cannot be shared",
+            Jca.load(
+                new File(
+                    projects[1].getProperties().getProperty(Keystore.KEY)
+                ),
+                "aggregate-password"
+            ).isKeyEntry("billing"),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * KeygenMojo can keep truststores of modules apart, in aggregate mode,
+     * when they are configured differently.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void keepsTruststoresApartInAggregateMode(@TempDir final Path temp)
+        throws Exception {
+        final MavenSession session = KeygenMojoTest.session();
+        final Keystore keystore = new Keystore("apart-password");
+        final File[] trusts = {
+            temp.resolve("minimal/cacerts.jks").toFile(),
+            temp.resolve("full/cacerts.jks").toFile(),
+        };
+        final Cacerts[] truststores = {
+            Cacerts.minimal(trusts[0], false),
+            new Cacerts(trusts[1]),
+        };
+        for (int idx = 0; idx < trusts.length; ++idx) {
+            final KeygenMojo mojo = new KeygenMojo(
+                new MavenProject(), keystore, truststores[idx]
+            );
+            mojo.setSession(session);
+            mojo.setAggregate(true);
+            mojo.setKeystore(
+                new File(trusts[idx].getParentFile(), "keystore.jks")
+            );
+            mojo.execute();
+        }
+        MatcherAssert.assertThat(
+            "full truststore cannot be generated after minimal one",
+            Jca.load(trusts[1], Cacerts.STD_PWD).size(),
+            Matchers.greaterThan(Jca.load(trusts[0], Cacerts.STD_PWD).size())
+        );
+    }
+
+    /**
+     * KeygenMojo can export stores without modifying properties, which
+     * the registry shares with other modules.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void keepsSharedPropertiesIntact(@TempDir final Path temp)
+        throws Exception {
+        final MavenSession session = KeygenMojoTest.session();
+        final Keystore keystore = new Keystore("shared-password");
+        final Cacerts cacerts = new Cacerts(
+            temp.resolve("cacerts.jks").toFile()
+        );
+        final File file = temp.resolve("keystore.jks").toFile();
+        final MavenProject project = new MavenProject();
+        final KeygenMojo mojo = new KeygenMojo(project, keystore, cacerts);
+        mojo.setSession(session);
+        mojo.setKeystore(file);
+        mojo.setExport(true);
+        mojo.execute();
+        MatcherAssert.assertThat(
+            "exported files cannot be published",
+            project.getProperties().stringPropertyNames(),
+            Matchers.hasItem(Export.PKCS12)
+        );
+        MatcherAssert.assertThat(
+            "shared properties cannot be modified",
+            Registry.of(session).activate(
+                Arrays.asList(keystore, file, cacerts),
+                () -> {
+                    throw new IllegalStateException("stores are not active");
+                }
+            ).stringPropertyNames(),
+            Matchers.not(Matchers.hasItem(Export.PKCS12))
+        );
+    }
+
+    /**
+     * Maven session, with its own data.
+     * @return The session
+     */
+    private static MavenSession session() {
+        return new MavenSession(
+            null, new DefaultRepositorySystemSession(),
+            new DefaultMavenExecutionRequest(),
+            new DefaultMavenExecutionResult()
+        );
+    }
 }
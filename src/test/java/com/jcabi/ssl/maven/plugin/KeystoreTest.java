@@ -5,7 +5,9 @@
 package com.jcabi.ssl.maven.plugin;
 
 import java.io.File;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -35,4 +37,110 @@ final class KeystoreTest {
             Matchers.is(true)
         );
     }
+
+    /**
+     * Keystore can tell that stores generated before are still valid.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void validatesStoresGeneratedBefore(@TempDir final Path temp)
+        throws Exception {
+        final File file = temp.resolve("keystore.jks").toFile();
+        final Keystore keystore = new Keystore("valid-password");
+        keystore.generate(file);
+        final Cacerts truststore = Cacerts.minimal(
+            temp.resolve("cacerts.jks").toFile(), false
+        );
+        truststore.copy();
+        keystore.imprt(file, truststore);
+        MatcherAssert.assertThat(
+            "stores are not valid",
+            keystore.valid(file, truststore),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Keystore can tell that stores made with another password are not
+     * valid.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void rejectsStoreWithWrongPassword(@TempDir final Path temp)
+        throws Exception {
+        final File file = temp.resolve("other.jks").toFile();
+        new Keystore("first-password").generate(file);
+        MatcherAssert.assertThat(
+            "store with another password is valid",
+            new Keystore("second-password").valid(
+                file, new Cacerts(temp.resolve("absent.jks").toFile())
+            ),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Keystore can make byte-identical stores from the same seed.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void makesIdenticalStoresFromSeed(@TempDir final Path temp)
+        throws Exception {
+        final byte[][] made = new byte[2][];
+        for (int idx = 0; idx < made.length; ++idx) {
+            final File dir = temp.resolve(String.format("run-%d", idx))
+                .toFile();
+            final File file = new File(dir, "keystore.jks");
+            final Cacerts truststore = Cacerts.minimal(
+                new File(dir, "cacerts.jks"), false
+            );
+            final Keystore keystore = new Keystore("seeded-password")
+                .with(Entropy.seeded("com.example:app"));
+            keystore.generate(file);
+            truststore.copy();
+            keystore.imprt(file, truststore);
+            keystore.normalize(file, truststore);
+            made[idx] = Files.readAllBytes(file.toPath());
+        }
+        MatcherAssert.assertThat(
+            "keystores are different",
+            made[1],
+            Matchers.equalTo(made[0])
+        );
+    }
+
+    /**
+     * Keystore can sign its key by the local authority, whose certificate
+     * is the only one imported into the truststore.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void signsKeyByAuthority(@TempDir final Path temp) throws Exception {
+        final File file = temp.resolve("leaf.jks").toFile();
+        final Keystore keystore = new Keystore(
+            "leaf-password", false, new Algorithm("EC", 256, "")
+        ).issuedBy(temp.resolve("ca.jks").toFile());
+        keystore.generate(file);
+        final Cacerts truststore = Cacerts.minimal(
+            temp.resolve("trust.jks").toFile(), false
+        );
+        truststore.copy();
+        keystore.imprt(file, truststore);
+        MatcherAssert.assertThat(
+            "only the authority is trusted",
+            Collections.list(
+                Jca.load(truststore.file(), Cacerts.STD_PWD).aliases()
+            ),
+            Matchers.contains(Authority.ALIAS)
+        );
+        MatcherAssert.assertThat(
+            "stores are not valid",
+            keystore.valid(file, truststore),
+            Matchers.is(true)
+        );
+    }
 }
@@ -4,9 +4,12 @@
  */
 package com.jcabi.ssl.maven.plugin;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -34,4 +37,25 @@ final class KeytoolTest {
             Matchers.containsString("Alias name:")
         );
     }
+
+    /**
+     * Keytool can report a failure of forked keytool, which answers
+     * prompts.
+     * @param temp Temporary directory
+     */
+    @Test
+    void reportsFailureOfPromptedKeytool(@TempDir final Path temp) {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> Keytool.prompted(
+                new Profile(),
+                Arrays.asList(
+                    "-list", "-keystore",
+                    temp.resolve("absent.jks").toFile().getAbsolutePath(),
+                    "-storepass", "any-password"
+                )
+            ),
+            "failure cannot be reported"
+        );
+    }
 }
@@ -0,0 +1,59 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Launch}.
+ * @since 1.0
+ */
+final class LaunchTest {
+
+    /**
+     * Launch can run keytool and capture its output.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void capturesOutputOfKeytool(@TempDir final Path temp) throws Exception {
+        final File file = temp.resolve("keystore.jks").toFile();
+        new Jca(file, "launch-password").genkey();
+        MatcherAssert.assertThat(
+            "alias cannot be found in the output",
+            new Launch(
+                new Profile(),
+                "-list", "-keystore", file.getAbsolutePath(),
+                "-storepass", "launch-password"
+            ).stdout(),
+            Matchers.containsString(Keytool.LOCALHOST)
+        );
+    }
+
+    /**
+     * Launch can report a failure of keytool.
+     * @param temp Temporary directory
+     */
+    @Test
+    void reportsFailureOfKeytool(@TempDir final Path temp) {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Launch(
+                new Profile(),
+                "-list", "-keystore",
+                temp.resolve("absent.jks").toFile().getAbsolutePath(),
+                "-storepass", "any-password"
+            ).stdout(),
+            "failure cannot be reported"
+        );
+    }
+}
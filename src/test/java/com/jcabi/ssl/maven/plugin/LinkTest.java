@@ -0,0 +1,92 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import org.apache.commons.io.FileUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Link}.
+ * @since 1.0
+ */
+final class LinkTest {
+
+    /**
+     * Link can replicate a file into another directory.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void replicatesFile(@TempDir final Path temp) throws Exception {
+        final File src = temp.resolve("a/keystore.jks").toFile();
+        FileUtils.writeStringToFile(src, "content", StandardCharsets.UTF_8);
+        final File dest = temp.resolve("b/c/keystore.jks").toFile();
+        FileUtils.writeStringToFile(dest, "garbage", StandardCharsets.UTF_8);
+        new Link(src, dest).make();
+        MatcherAssert.assertThat(
+            "file cannot be replicated",
+            FileUtils.readFileToString(dest, StandardCharsets.UTF_8),
+            Matchers.equalTo("content")
+        );
+    }
+
+    /**
+     * Link can leave the file alone when it is replicated onto itself.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void keepsFileReplicatedOntoItself(@TempDir final Path temp)
+        throws Exception {
+        final File src = temp.resolve("keystore.jks").toFile();
+        FileUtils.writeStringToFile(src, "same", StandardCharsets.UTF_8);
+        new Link(src, src).make();
+        MatcherAssert.assertThat(
+            "file cannot be kept",
+            FileUtils.readFileToString(src, StandardCharsets.UTF_8),
+            Matchers.equalTo("same")
+        );
+    }
+
+    /**
+     * Link can make a frozen replica, which keeps the original writable
+     * and is replaced without changing it.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void keepsOriginalOfFrozenReplica(@TempDir final Path temp)
+        throws Exception {
+        Assumptions.assumeTrue(
+            FileSystems.getDefault().supportedFileAttributeViews()
+                .contains("posix")
+        );
+        final File src = temp.resolve("shared/cacerts.jks").toFile();
+        FileUtils.writeStringToFile(src, "shared", StandardCharsets.UTF_8);
+        final File dest = temp.resolve("target/cacerts.jks").toFile();
+        new Link(src, dest, true).make();
+        MatcherAssert.assertThat(
+            "original cannot stay writable",
+            Files.getPosixFilePermissions(src.toPath()),
+            Matchers.hasItem(PosixFilePermission.OWNER_WRITE)
+        );
+        Jca.write(dest, "local".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "original cannot stay intact",
+            FileUtils.readFileToString(src, StandardCharsets.UTF_8),
+            Matchers.equalTo("shared")
+        );
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Parallel}.
+ * @since 1.0
+ */
+final class ParallelTest {
+
+    /**
+     * Parallel can run steps at the same time.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void runsStepsConcurrently() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(2);
+        final Parallel.Step step = () -> {
+            latch.countDown();
+            try {
+                latch.await(1L, TimeUnit.MINUTES);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            }
+        };
+        new Parallel(step, step).run();
+        MatcherAssert.assertThat(
+            "steps cannot run concurrently",
+            latch.getCount(),
+            Matchers.equalTo(0L)
+        );
+    }
+
+    /**
+     * Parallel can report a failure of a step.
+     */
+    @Test
+    void reportsFailureOfStep() {
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Parallel(
+                () -> { },
+                () -> {
+                    throw new IOException("oops");
+                }
+            ).run(),
+            "failure cannot be reported"
+        );
+    }
+
+    /**
+     * Parallel can stop other steps, when the one in the current thread
+     * fails, before it reports the failure.
+     */
+    @Test
+    void stopsOtherStepsOnFailure() {
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicBoolean stopped = new AtomicBoolean();
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Parallel(
+                () -> {
+                    try {
+                        started.await(1L, TimeUnit.MINUTES);
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new IOException("caller");
+                },
+                () -> {
+                    started.countDown();
+                    try {
+                        TimeUnit.MINUTES.sleep(1L);
+                    } catch (final InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        stopped.set(true);
+                    }
+                }
+            ).run(),
+            "failure of the first step cannot be reported"
+        );
+        MatcherAssert.assertThat(
+            "other step cannot be stopped",
+            stopped.get(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Parallel can attach other failures to the first one.
+     */
+    @Test
+    void suppressesOtherFailures() {
+        final CountDownLatch failed = new CountDownLatch(1);
+        MatcherAssert.assertThat(
+            "other failures cannot be suppressed",
+            Assertions.assertThrows(
+                IOException.class,
+                () -> new Parallel(
+                    () -> {
+                        try {
+                            failed.await(1L, TimeUnit.MINUTES);
+                            TimeUnit.MILLISECONDS.sleep(100L);
+                        } catch (final InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        }
+                        throw new IOException("caller");
+                    },
+                    () -> {
+                        failed.countDown();
+                        throw new IOException("pool");
+                    }
+                ).run(),
+                "failures cannot be reported"
+            ).getSuppressed(),
+            Matchers.arrayWithSize(1)
+        );
+    }
+
+    /**
+     * Parallel can limit the number of steps running at the same time.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void limitsNumberOfThreads() throws Exception {
+        final AtomicInteger now = new AtomicInteger();
+        final AtomicInteger max = new AtomicInteger();
+        final Parallel.Step step = () -> {
+            max.accumulateAndGet(now.incrementAndGet(), Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(20L);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            }
+            now.decrementAndGet();
+        };
+        new Parallel(
+            2, Arrays.asList(step, step, step, step, step, step)
+        ).run();
+        MatcherAssert.assertThat(
+            "too many steps run at the same time",
+            max.get(),
+            Matchers.lessThanOrEqualTo(2)
+        );
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Profile}.
+ * @since 1.0
+ */
+final class ProfileTest {
+
+    /**
+     * Profile can pass JVM options to keytool.
+     */
+    @Test
+    void passesOptionsToKeytool() {
+        MatcherAssert.assertThat(
+            "options are not passed",
+            new Profile(" -Xmx32m  -XX:+UseSerialGC ", null).flags(
+                new File("scratch.jsa")
+            ),
+            Matchers.contains("-J-Xmx32m", "-J-XX:+UseSerialGC")
+        );
+    }
+
+    /**
+     * Profile can drop options.
+     */
+    @Test
+    void dropsOptions() {
+        MatcherAssert.assertThat(
+            "option is not dropped",
+            new Profile(Profile.TUNED, null)
+                .without("-XX:TieredStopAtLevel")
+                .flags(new File("none.jsa")),
+            Matchers.not(Matchers.hasItem("-J-XX:TieredStopAtLevel=1"))
+        );
+    }
+
+    /**
+     * Profile can create CDS archive in the first fork and use it
+     * in the next ones, which start faster.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void createsArchiveOfClasses(@TempDir final Path temp) throws Exception {
+        final File file = temp.resolve("keystore.jks").toFile();
+        new Jca(file, "profile-password").genkey();
+        final File dir = temp.resolve("cds").toFile();
+        final Keytool tuned = new Keytool(
+            file, "profile-password", new Profile(Profile.TUNED, dir)
+        );
+        tuned.list();
+        MatcherAssert.assertThat(
+            "CDS archive is not created",
+            dir.list(),
+            Matchers.arrayWithSize(1)
+        );
+        final Keytool plain = new Keytool(file, "profile-password");
+        final long start = System.nanoTime();
+        plain.list();
+        final long middle = System.nanoTime();
+        tuned.list();
+        Logger.info(
+            this, "keytool -list: %[nano]s plain, %[nano]s tuned",
+            middle - start, System.nanoTime() - middle
+        );
+    }
+}
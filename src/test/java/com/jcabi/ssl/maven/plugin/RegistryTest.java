@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Registry}.
+ * @since 1.0
+ */
+final class RegistryTest {
+
+    /**
+     * Registry can activate a configuration only once, in parallel.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void activatesConfigurationOnce() throws Exception {
+        final Registry registry = new Registry();
+        final AtomicInteger count = new AtomicInteger();
+        final ExecutorService service = Executors.newFixedThreadPool(8);
+        final Collection<Callable<Properties>> tasks = new ArrayList<>(16);
+        for (int idx = 0; idx < 16; ++idx) {
+            tasks.add(
+                () -> registry.activate(
+                    "same",
+                    () -> {
+                        count.incrementAndGet();
+                        LockSupport.parkNanos(
+                            TimeUnit.MILLISECONDS.toNanos(100L)
+                        );
+                        return new Properties();
+                    }
+                )
+            );
+        }
+        for (final Future<Properties> future : service.invokeAll(tasks)) {
+            future.get();
+        }
+        service.shutdown();
+        MatcherAssert.assertThat(
+            "configuration cannot be activated only once",
+            count.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    /**
+     * Registry can keep different configurations apart.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void separatesConfigurations() throws Exception {
+        final Registry registry = new Registry();
+        final Properties first = new Properties();
+        first.setProperty("a", "first");
+        final Properties second = new Properties();
+        second.setProperty("a", "second");
+        registry.activate("first", () -> first);
+        registry.activate("second", () -> second);
+        MatcherAssert.assertThat(
+            "configurations cannot be separated",
+            registry.activate("second", Properties::new).getProperty("a"),
+            Matchers.equalTo("second")
+        );
+    }
+}
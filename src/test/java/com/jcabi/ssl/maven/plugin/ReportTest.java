@@ -0,0 +1,64 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.apache.commons.io.FileUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Report}.
+ * @since 1.0
+ */
+final class ReportTest {
+
+    /**
+     * Report can count forks of a step.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void countsForksOfStep(@TempDir final Path temp) throws Exception {
+        final Report report = new Report();
+        report.measure("list", Report::forked);
+        final File json = temp.resolve("report.json").toFile();
+        report.save(json);
+        MatcherAssert.assertThat(
+            "forks cannot be counted",
+            FileUtils.readFileToString(json, StandardCharsets.UTF_8),
+            Matchers.containsString("\"forks\":1,\"bytes\":0}]")
+        );
+    }
+
+    /**
+     * Report can save bytes written and cache hits.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void savesBytesAndHits(@TempDir final Path temp) throws Exception {
+        final Report report = new Report();
+        final File file = temp.resolve("a.jks").toFile();
+        report.measure(
+            "genkey", file,
+            () -> FileUtils.writeStringToFile(
+                file, "12345", StandardCharsets.UTF_8
+            )
+        );
+        report.hit();
+        final File json = temp.resolve("report.json").toFile();
+        report.save(json);
+        MatcherAssert.assertThat(
+            "bytes and hits cannot be saved",
+            FileUtils.readFileToString(json, StandardCharsets.UTF_8),
+            Matchers.containsString("\"forks\":0,\"bytes\":5,\"hits\":1")
+        );
+    }
+}
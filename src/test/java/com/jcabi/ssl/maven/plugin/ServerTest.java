@@ -0,0 +1,167 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocket;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Server}.
+ * @since 1.0
+ */
+final class ServerTest {
+
+    /**
+     * Server can send back what it gets, on many connections at once.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void echoesOnManyConnections() throws Exception {
+        final SSLContext context = Contexts.context(new Properties());
+        try (Server server = new Server(context, Server.ECHO, "", 0)) {
+            final int port = server.start(0);
+            final List<SSLSocket> socks = new ArrayList<>(128);
+            try {
+                for (int idx = 0; idx < 128; ++idx) {
+                    final SSLSocket sock = ServerTest.connect(context, port);
+                    sock.startHandshake();
+                    socks.add(sock);
+                }
+                int sum = 0;
+                for (int idx = 0; idx < socks.size(); ++idx) {
+                    socks.get(idx).getOutputStream().write(idx % 100);
+                    sum += socks.get(idx).getInputStream().read();
+                }
+                MatcherAssert.assertThat(
+                    "bytes cannot be echoed",
+                    sum,
+                    Matchers.equalTo(5328)
+                );
+            } finally {
+                for (final SSLSocket sock : socks) {
+                    sock.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Server can close a broken connection and keep serving others.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void survivesBrokenConnection() throws Exception {
+        final SSLContext context = Contexts.context(new Properties());
+        try (Server server = new Server(context, Server.ECHO, "", 0)) {
+            final int port = server.start(0);
+            try (Socket broken = new Socket(
+                InetAddress.getLoopbackAddress(), port
+            )) {
+                broken.getOutputStream().write(
+                    "GET / HTTP/1.1\r\n\r\n".getBytes(StandardCharsets.US_ASCII)
+                );
+                broken.getInputStream().readAllBytes();
+            }
+            try (SSLSocket sock = ServerTest.connect(context, port)) {
+                sock.getOutputStream().write(42);
+                MatcherAssert.assertThat(
+                    "server cannot survive broken connection",
+                    sock.getInputStream().read(),
+                    Matchers.equalTo(42)
+                );
+            }
+        }
+    }
+
+    /**
+     * Server can answer with the same HTTP response.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void answersWithStaticResponse() throws Exception {
+        final SSLContext context = Contexts.context(new Properties());
+        try (Server server = new Server(context, Server.STATIC, "hi!", 0);
+            SSLSocket sock = ServerTest.connect(context, server.start(0))) {
+            sock.getOutputStream().write(
+                "GET / HTTP/1.1\r\n\r\n".getBytes(StandardCharsets.US_ASCII)
+            );
+            MatcherAssert.assertThat(
+                "response cannot be sent",
+                new String(
+                    sock.getInputStream().readAllBytes(),
+                    StandardCharsets.UTF_8
+                ),
+                Matchers.allOf(
+                    Matchers.startsWith("HTTP/1.1 200 OK\r\n"),
+                    Matchers.endsWith("\r\n\r\nhi!")
+                )
+            );
+        }
+    }
+
+    /**
+     * Server can forward to a port on localhost.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void forwardsToLocalPort() throws Exception {
+        final SSLContext context = Contexts.context(new Properties());
+        final ExecutorService exec = Executors.newSingleThreadExecutor();
+        try (ServerSocket plain = new ServerSocket(
+            0, 1, InetAddress.getLoopbackAddress()
+        );
+            Server server = new Server(
+                context, Server.PROXY, "", plain.getLocalPort()
+            );
+            SSLSocket sock = ServerTest.connect(context, server.start(0))) {
+            exec.submit(
+                () -> {
+                    try (Socket up = plain.accept();
+                        InputStream input = up.getInputStream();
+                        OutputStream output = up.getOutputStream()) {
+                        output.write(input.read() + 1);
+                    }
+                    return null;
+                }
+            );
+            sock.getOutputStream().write(41);
+            MatcherAssert.assertThat(
+                "bytes cannot be forwarded",
+                sock.getInputStream().read(),
+                Matchers.equalTo(42)
+            );
+        } finally {
+            exec.shutdownNow();
+        }
+    }
+
+    /**
+     * Connect to the server.
+     * @param context SSL context
+     * @param port Port of the server
+     * @return Socket
+     * @throws Exception If fails
+     */
+    private static SSLSocket connect(final SSLContext context,
+        final int port) throws Exception {
+        return (SSLSocket) context.getSocketFactory().createSocket(
+            InetAddress.getLoopbackAddress(), port
+        );
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.File;
+import java.net.InetAddress;
+import java.nio.file.Path;
+import javax.net.ssl.SSLSocket;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.project.MavenProject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link StartMojo} and {@link StopMojo}.
+ * @since 1.0
+ */
+final class StartMojoTest {
+
+    /**
+     * StartMojo can skip execution when flag is set.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    @SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
+    void skipsExecutionWhenRequired() throws Exception {
+        final StartMojo mojo = new StartMojo();
+        mojo.setSkip(true);
+        mojo.execute();
+    }
+
+    /**
+     * StartMojo can refuse to start without the keystore, which
+     * {@code keygen} generates.
+     */
+    @Test
+    void refusesToStartWithoutKeystore() {
+        Assertions.assertThrows(
+            MojoFailureException.class,
+            () -> new StartMojo(new MavenProject()).execute(),
+            "server cannot be refused without keystore"
+        );
+    }
+
+    /**
+     * StartMojo can start echo server with default configuration and
+     * StopMojo can stop it.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void startsAndStopsWithDefaults(@TempDir final Path temp)
+        throws Exception {
+        final File keystore = temp.resolve("keystore.jks").toFile();
+        final Keystore store = new Keystore("start-password");
+        store.generate(keystore);
+        final Cacerts cacerts = new Cacerts(
+            temp.resolve("cacerts.jks").toFile()
+        );
+        cacerts.copy();
+        store.imprt(keystore, cacerts);
+        final MavenProject project = new MavenProject();
+        store.populate(project.getProperties(), keystore);
+        cacerts.populate(project.getProperties());
+        new StartMojo(project).execute();
+        try (SSLSocket sock = (SSLSocket) Contexts
+            .context(project.getProperties())
+            .getSocketFactory().createSocket(
+                InetAddress.getLoopbackAddress(),
+                Integer.parseInt(
+                    project.getProperties().getProperty("jcabi.ssl.port")
+                )
+            )) {
+            sock.getOutputStream().write(42);
+            MatcherAssert.assertThat(
+                "byte cannot be echoed",
+                sock.getInputStream().read(),
+                Matchers.equalTo(42)
+            );
+        } finally {
+            new StopMojo(project).execute();
+        }
+        MatcherAssert.assertThat(
+            "server cannot be stopped",
+            project.getContextValue(Server.class.getName()),
+            Matchers.nullValue()
+        );
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.ssl.maven.plugin;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link X509}.
+ * @since 1.0
+ */
+final class X509Test {
+
+    /**
+     * X509 can make a valid self-signed certificate.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void makesSelfSignedCertificate() throws Exception {
+        final KeyPairGenerator gen = KeyPairGenerator.getInstance("RSA");
+        gen.initialize(2048);
+        final KeyPair pair = gen.generateKeyPair();
+        final X509Certificate cert = new X509("CN=localhost, C=US", 10L)
+            .selfSigned(pair, new SecureRandom());
+        cert.verify(pair.getPublic());
+        cert.checkValidity();
+        MatcherAssert.assertThat(
+            "subject cannot be encoded",
+            cert.getSubjectX500Principal().getName(),
+            Matchers.equalTo("CN=localhost,C=US")
+        );
+    }
+
+    /**
+     * X509 can sign a certificate with an elliptic curve key.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void signsWithEllipticCurve() throws Exception {
+        final Algorithm alg = new Algorithm("EC", 256, "");
+        final KeyPair pair = alg.generate(new SecureRandom());
+        final X509Certificate cert = new X509("CN=localhost", 1L, alg)
+            .selfSigned(pair, new SecureRandom());
+        cert.verify(pair.getPublic());
+        MatcherAssert.assertThat(
+            "certificate is not signed with ECDSA",
+            cert.getSigAlgName(),
+            Matchers.equalTo("SHA256withECDSA")
+        );
+    }
+
+    /**
+     * X509 can sign a certificate with an Ed25519 key.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void signsWithEdwardsCurve() throws Exception {
+        final Algorithm alg = new Algorithm("Ed25519", 0, "");
+        final KeyPair pair = alg.generate(new SecureRandom());
+        final X509Certificate cert = new X509("CN=localhost", 1L, alg)
+            .selfSigned(pair, new SecureRandom());
+        cert.verify(pair.getPublic());
+        MatcherAssert.assertThat(
+            "certificate is not signed with Ed25519",
+            cert.getSigAlgName(),
+            Matchers.equalTo("Ed25519")
+        );
+    }
+
+    /**
+     * X509 can add subject alternative names.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void addsAlternativeNames() throws Exception {
+        final Algorithm alg = new Algorithm("EC", 256, "");
+        final KeyPair pair = alg.generate(new SecureRandom());
+        final X509Certificate cert = new X509("CN=orders", 1L, alg)
+            .with(Arrays.asList("orders.local", "127.0.0.1", "::1"))
+            .selfSigned(pair, new SecureRandom());
+        cert.verify(pair.getPublic());
+        MatcherAssert.assertThat(
+            "alternative names are wrong",
+            cert.getSubjectAlternativeNames().toString(),
+            Matchers.allOf(
+                Matchers.containsString("[2, orders.local]"),
+                Matchers.containsString("[7, 127.0.0.1]"),
+                Matchers.containsString("[7, 0:0:0:0:0:0:0:1]")
+            )
+        );
+    }
+
+    /**
+     * X509 can issue a certificate signed by an authority.
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void issuesCertificateByAuthority() throws Exception {
+        final Algorithm alg = new Algorithm("EC", 256, "");
+        final KeyStore.PrivateKeyEntry issuer = Jca.entry(
+            new X509("CN=authority", 1L, alg).authority(), alg,
+            new SecureRandom()
+        );
+        final KeyPair pair = alg.generate(new SecureRandom());
+        final X509Certificate cert = new X509("CN=leaf", 1L, alg)
+            .issued(pair.getPublic(), issuer, new SecureRandom());
+        cert.verify(issuer.getCertificate().getPublicKey());
+        MatcherAssert.assertThat(
+            "issuer is wrong",
+            cert.getIssuerX500Principal().getName(),
+            Matchers.equalTo("CN=authority")
+        );
+    }
+
+    /**
+     * X509 can make certificates of all algorithms, which JDK parses
+     * from their bytes and keytool prints the same way.
+     * @param temp Temporary directory
+     * @throws Exception If something is wrong
+     */
+    @Test
+    void makesCertificatesThatKeytoolPrints(@TempDir final Path temp)
+        throws Exception {
+        final Algorithm[] algs = {
+            new Algorithm("RSA", 2048, ""),
+            new Algorithm("EC", 384, ""),
+            new Algorithm("Ed25519", 0, ""),
+        };
+        for (int idx = 0; idx < algs.length; ++idx) {
+            final Algorithm alg = algs[idx];
+            final KeyPair pair = alg.generate(new SecureRandom());
+            final X509Certificate cert = new X509(
+                "CN=localhost, OU=jcabi, C=US", Jca.CENTURY, alg, Jks.EPOCH
+            ).with(Arrays.asList("localhost", "127.0.0.1"))
+                .selfSigned(pair, new SecureRandom());
+            final X509Certificate parsed = (X509Certificate) CertificateFactory
+                .getInstance("X.509")
+                .generateCertificate(
+                    new ByteArrayInputStream(cert.getEncoded())
+                );
+            parsed.verify(pair.getPublic());
+            MatcherAssert.assertThat(
+                String.format("%s certificate is parsed differently", alg),
+                parsed.getNotAfter().getTime(),
+                Matchers.equalTo(
+                    Jks.EPOCH + TimeUnit.DAYS.toMillis(Jca.CENTURY)
+                )
+            );
+            final File file = temp.resolve(
+                String.format("cert-%d.der", idx)
+            ).toFile();
+            Files.write(file.toPath(), cert.getEncoded());
+            MatcherAssert.assertThat(
+                String.format("keytool prints %s certificate differently", alg),
+                new Launch(
+                    new Profile(), "-printcert", "-v",
+                    "-file", file.getAbsolutePath()
+                ).stdout(),
+                Matchers.allOf(
+                    Matchers.containsString(
+                        String.format(
+                            "Owner: %s", parsed.getSubjectX500Principal()
+                        )
+                    ),
+                    Matchers.containsString(
+                        String.format(
+                            "Serial number: %s",
+                            parsed.getSerialNumber().toString(16)
+                        )
+                    ),
+                    Matchers.containsString(
+                        String.format("until: %s", parsed.getNotAfter())
+                    ),
+                    Matchers.containsString(
+                        String.format(
+                            "Signature algorithm name: %s",
+                            parsed.getSigAlgName()
+                        )
+                    ),
+                    Matchers.containsString("DNSName: localhost"),
+                    Matchers.containsString("IPAddress: 127.0.0.1")
+                )
+            );
+        }
+    }
+}